@@ -0,0 +1,33 @@
+package hwr.oop.poker.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+    // entry point only
+  }
+
+  // without arguments, runs every benchmark with the GC profiler, which also reports the
+  // normalized allocation rate (gc.alloc.rate.norm, bytes per operation);
+  // with arguments, behaves like the plain JMH command line, e.g. "-prof gc" or "-prof jfr"
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0) {
+      Main.main(args);
+    } else {
+      runAllWithGcProfiler();
+    }
+  }
+
+  private static void runAllWithGcProfiler() throws RunnerException {
+    final var options = new OptionsBuilder()
+        .include(BenchmarkRunner.class.getPackageName() + ".*")
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
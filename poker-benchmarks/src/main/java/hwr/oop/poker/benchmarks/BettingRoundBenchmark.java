@@ -0,0 +1,58 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BettingRoundBenchmark {
+
+  private static final long BET = 100L;
+
+  @Param({"2", "6", "9"})
+  private int numberOfPlayers;
+
+  private List<Player> players;
+  private Stacks stacks;
+  private BlindConfiguration blindConfiguration;
+
+  @Setup
+  public void setUp() {
+    players = Fixtures.players(numberOfPlayers);
+    stacks = Fixtures.stacks(players);
+    blindConfiguration = BlindConfiguration.create(SmallBlind.of(Fixtures.SMALL_BLIND));
+  }
+
+  @Benchmark
+  public BettingRound preFlopAllCall() {
+    final var round = BettingRound.createPreFlop(stacks, blindConfiguration, players);
+    return Fixtures.playPassively(round);
+  }
+
+  @Benchmark
+  public BettingRound betAndAllCall() {
+    final var round = BettingRound.create(stacks, players);
+    final var afterBet = round.with(players.getFirst()).bet(BET);
+    return Fixtures.playPassively(afterBet);
+  }
+}
@@ -0,0 +1,52 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.combinations.Combination;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinationBenchmark {
+
+  private static final int NUMBER_OF_HANDS = 1 << 10;
+  private static final int CARDS_PER_HAND = 7;
+
+  private List<List<Card>> hands;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    hands = Fixtures.randomHands(NUMBER_OF_HANDS, CARDS_PER_HAND);
+  }
+
+  @Benchmark
+  public Combination combinationOfSevenCards() {
+    return Combination.of(nextHand());
+  }
+
+  @Benchmark
+  public int rankOfSevenCards() {
+    return HandEvaluator.computed().evaluate(nextHand());
+  }
+
+  private List<Card> nextHand() {
+    next = (next + 1) & (NUMBER_OF_HANDS - 1);
+    return hands.get(next);
+  }
+}
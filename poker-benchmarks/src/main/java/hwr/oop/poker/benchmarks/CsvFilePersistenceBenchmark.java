@@ -0,0 +1,84 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.persistence.CsvFilePersistenceAdapter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// save and load times should not depend on the number of hands already in the file
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvFilePersistenceBenchmark {
+
+  private static final int NUMBER_OF_PLAYERS = 6;
+
+  @Param({"1", "10000"})
+  private int storedHands;
+
+  private Path directory;
+  private CsvFilePersistenceAdapter adapter;
+  private Hand playedHand;
+  private HandId firstHand;
+  private int nextHand;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("csv-persistence-benchmark");
+    adapter = new CsvFilePersistenceAdapter(CsvFilePersistenceAdapter.newConfigBuilder()
+        .csvFile(directory.resolve("hands.csv"))
+        .build());
+    final var players = Fixtures.players(NUMBER_OF_PLAYERS);
+    final var deckCards = Fixtures.shuffledCards(new Random(Fixtures.SEED));
+    playedHand = Fixtures.playToShowDown(Fixtures.newHand(players, deckCards));
+    firstHand = new HandId("hand-0");
+    for (nextHand = 0; nextHand < storedHands; nextHand++) {
+      adapter.saveHand(new HandId("hand-" + nextHand), playedHand);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public void saveNewHand() {
+    adapter.saveHand(new HandId("hand-" + nextHand++), playedHand);
+  }
+
+  @Benchmark
+  public void saveNewVersion() {
+    adapter.saveHand(firstHand, playedHand);
+  }
+
+  @Benchmark
+  public Hand loadFirstHand() {
+    return adapter.loadById(firstHand);
+  }
+}
@@ -0,0 +1,67 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.persistence.CsvRow;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvRowBenchmark {
+
+  @Param({"2", "6", "9"})
+  private int numberOfPlayers;
+
+  private HandId handId;
+  private Hand playedHand;
+  private String row;
+  private String rowWithoutSnapshot;
+
+  @Setup
+  public void setUp() {
+    final var players = Fixtures.players(numberOfPlayers);
+    final var deckCards = Fixtures.shuffledCards(new Random(Fixtures.SEED));
+    handId = new HandId("benchmark");
+    playedHand = Fixtures.playToShowDown(Fixtures.newHand(players, deckCards));
+    final var csvRow = CsvRow.fromHand(playedHand, handId);
+    row = csvRow.toString();
+    rowWithoutSnapshot = new CsvRow(csvRow.idString(), csvRow.playersAndStacks(),
+        csvRow.smallBlindString(), csvRow.deckString(), csvRow.playsString()).toString();
+  }
+
+  @Benchmark
+  public Hand fromStringToHand() {
+    return CsvRow.fromString(row).toHand();
+  }
+
+  @Benchmark
+  public Hand fromStringWithoutSnapshotToHand() {
+    return CsvRow.fromString(rowWithoutSnapshot).toHand();
+  }
+
+  @Benchmark
+  public Hand fromStringToValidatedHand() {
+    return CsvRow.fromString(row).toHand(CsvRow.Replay.VALIDATED);
+  }
+
+  @Benchmark
+  public CsvRow fromHand() {
+    return CsvRow.fromHand(playedHand, handId);
+  }
+}
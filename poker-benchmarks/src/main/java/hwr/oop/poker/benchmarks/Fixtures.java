@@ -0,0 +1,88 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+final class Fixtures {
+
+  static final long SEED = 42L;
+  static final long STARTING_STACK = 10_000L;
+  static final long SMALL_BLIND = 10L;
+
+  private Fixtures() {
+    // utility class
+  }
+
+  static List<Card> shuffledCards(Random random) {
+    final List<Card> cards = new ArrayList<>(Card.NUMBER_OF_CARDS);
+    for (int index = 0; index < Card.NUMBER_OF_CARDS; index++) {
+      cards.add(Card.fromIndex(index));
+    }
+    Collections.shuffle(cards, random);
+    return cards;
+  }
+
+  static List<List<Card>> randomHands(int numberOfHands, int cardsPerHand) {
+    final var random = new Random(SEED);
+    return IntStream.range(0, numberOfHands)
+        .mapToObj(i -> List.copyOf(shuffledCards(random).subList(0, cardsPerHand)))
+        .toList();
+  }
+
+  static List<Player> players(int numberOfPlayers) {
+    return IntStream.rangeClosed(1, numberOfPlayers)
+        .mapToObj(i -> new Player(Integer.toString(i)))
+        .toList();
+  }
+
+  static Stacks stacks(List<Player> players) {
+    final var builder = Stacks.newBuilder();
+    players.forEach(p -> builder.of(p).is(STARTING_STACK));
+    return builder.build();
+  }
+
+  static Hand newHand(List<Player> players, List<Card> deckCards) {
+    return Hand.newBuilder()
+        .deck(new UnshuffledDeck(deckCards))
+        .players(players)
+        .stacks(stacks(players))
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(SMALL_BLIND)))
+        .build();
+  }
+
+  // every player checks or calls, short stacks go all-in, until the round is finished
+  static BettingRound playPassively(BettingRound round) {
+    BettingRound current = round;
+    while (!current.isFinished()) {
+      final var player = current.turn().orElseThrow();
+      final var actions = current.legalActions();
+      if (actions.canCheck()) {
+        current = current.with(player).check();
+      } else if (actions.canCall()) {
+        current = current.with(player).call();
+      } else {
+        current = current.with(player).allIn();
+      }
+    }
+    return current;
+  }
+
+  static Hand playToShowDown(Hand hand) {
+    Hand current = hand;
+    while (!current.isFinished()) {
+      current = current.onCurrentRound(Fixtures::playPassively);
+    }
+    return current;
+  }
+}
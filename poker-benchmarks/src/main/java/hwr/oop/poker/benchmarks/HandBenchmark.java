@@ -0,0 +1,51 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+
+  @Param({"2", "6", "9"})
+  private int numberOfPlayers;
+
+  private List<Player> players;
+  private List<Card> deckCards;
+
+  @Setup
+  public void setUp() {
+    players = Fixtures.players(numberOfPlayers);
+    deckCards = Fixtures.shuffledCards(new Random(Fixtures.SEED));
+  }
+
+  @Benchmark
+  public Hand newHand() {
+    return Fixtures.newHand(players, deckCards);
+  }
+
+  // a hand draws from its (mutable) deck, so every invocation plays a fresh one
+  @Benchmark
+  public Hand onCurrentRoundUntilShowDown() {
+    return Fixtures.playToShowDown(Fixtures.newHand(players, deckCards));
+  }
+}
@@ -0,0 +1,80 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.simulation.HandSimulator;
+import hwr.oop.poker.application.domain.simulation.SimulationResult;
+import hwr.oop.poker.application.domain.simulation.Strategy;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// scores are per simulated hand, on a single thread and on all cores
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandSimulatorBenchmark {
+
+  private static final int HANDS = 1_000;
+
+  @Param({"2", "6", "9"})
+  private int numberOfPlayers;
+
+  private ForkJoinPool singleThread;
+  private HandSimulator singleThreaded;
+  private HandSimulator allCores;
+
+  @Setup
+  public void setUp() {
+    final Strategy[] strategies = Stream
+        .generate(Strategy::passive)
+        .limit(numberOfPlayers)
+        .toArray(Strategy[]::new);
+    strategies[0] = Strategy.aggressive();
+    singleThread = new ForkJoinPool(1);
+    singleThreaded = simulator(strategies, singleThread);
+    allCores = simulator(strategies, ForkJoinPool.commonPool());
+  }
+
+  @TearDown
+  public void tearDown() {
+    singleThread.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HANDS)
+  public SimulationResult singleThread() {
+    return singleThreaded.run();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HANDS)
+  public SimulationResult allCores() {
+    return allCores.run();
+  }
+
+  private static HandSimulator simulator(Strategy[] strategies, ForkJoinPool pool) {
+    return HandSimulator.newBuilder()
+        .strategies(strategies)
+        .startingStack(Fixtures.STARTING_STACK)
+        .smallBlind(Fixtures.SMALL_BLIND)
+        .hands(HANDS)
+        .pool(pool)
+        .seed(Fixtures.SEED)
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.ChipValue;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Pots;
+import hwr.oop.poker.application.domain.Seats;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.Play;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PotsBenchmark {
+
+  @Param({"2", "9", "64"})
+  private int numberOfPlayers;
+
+  private Seats seats;
+  private List<Play> allIns;
+  private Pots pots;
+  private Stacks stacks;
+  private List<List<Player>> ranking;
+
+  // every player goes all-in with a different stack, so each of them cuts a side pot
+  @Setup
+  public void setUp() {
+    final var random = new Random(Fixtures.SEED);
+    final var players = Fixtures.players(numberOfPlayers);
+    seats = Seats.of(players);
+    allIns = new ArrayList<>(numberOfPlayers);
+    final var builder = Stacks.newBuilder();
+    for (Player player : players) {
+      allIns.add(Play.bet(player, ChipValue.of(1 + random.nextInt((int) Fixtures.STARTING_STACK))));
+      builder.of(player).is(0);
+    }
+    pots = Pots.empty(seats).addAll(allIns);
+    stacks = builder.build();
+    final List<Player> shuffled = new ArrayList<>(players);
+    Collections.shuffle(shuffled, random);
+    ranking = shuffled.stream().map(List::of).toList();
+  }
+
+  @Benchmark
+  public Pots addAllIns() {
+    return Pots.empty(seats).addAll(allIns);
+  }
+
+  @Benchmark
+  public Stacks resolve() {
+    return pots.resolve(stacks, ranking);
+  }
+}
@@ -0,0 +1,64 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.HoleCards;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.ShowDown;
+import hwr.oop.poker.application.domain.cards.CommunityCards;
+import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShowDownBenchmark {
+
+  private static final int NUMBER_OF_DEALS = 1 << 8;
+
+  @Param({"2", "6", "9"})
+  private int numberOfPlayers;
+
+  private List<Player> players;
+  private List<HoleCards> holeCards;
+  private List<CommunityCardsProvider> boards;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    final var random = new Random(Fixtures.SEED);
+    players = Fixtures.players(numberOfPlayers);
+    holeCards = new ArrayList<>(NUMBER_OF_DEALS);
+    boards = new ArrayList<>(NUMBER_OF_DEALS);
+    for (int i = 0; i < NUMBER_OF_DEALS; i++) {
+      final var deck = new UnshuffledDeck(Fixtures.shuffledCards(random));
+      holeCards.add(HoleCards.createByDrawingFromDeck(deck, players));
+      boards.add(CommunityCards
+          .flop(deck.draw(), deck.draw(), deck.draw())
+          .turn(deck.draw())
+          .river(deck.draw()));
+    }
+  }
+
+  @Benchmark
+  public ShowDown showDown() {
+    next = (next + 1) & (NUMBER_OF_DEALS - 1);
+    return ShowDown.create(boards.get(next), holeCards.get(next), players);
+  }
+}
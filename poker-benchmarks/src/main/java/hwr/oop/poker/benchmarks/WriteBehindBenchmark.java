@@ -0,0 +1,94 @@
+package hwr.oop.poker.benchmarks;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.persistence.CsvFilePersistenceAdapter;
+import hwr.oop.poker.persistence.WriteBehindPersistenceAdapter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// durable saves from many tables at once: one force per save against one force per batch
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class WriteBehindBenchmark {
+
+  private static final int NUMBER_OF_PLAYERS = 6;
+  private static final int NUMBER_OF_TABLES = 256;
+
+  @Param({"true", "false"})
+  private boolean syncOnCommit;
+
+  private Path directory;
+  private CsvFilePersistenceAdapter csv;
+  private WriteBehindPersistenceAdapter writeBehind;
+  private Hand playedHand;
+  private AtomicInteger nextTable;
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("write-behind-benchmark");
+    csv = new CsvFilePersistenceAdapter(CsvFilePersistenceAdapter.newConfigBuilder()
+        .csvFile(directory.resolve("hands.csv"))
+        .build());
+    writeBehind = WriteBehindPersistenceAdapter.newBuilder()
+        .loadHandPort(csv)
+        .batchSaveHandPort(csv)
+        .flushInterval(Duration.ofMillis(1))
+        .syncOnCommit(syncOnCommit)
+        .build();
+    final var players = Fixtures.players(NUMBER_OF_PLAYERS);
+    final var deckCards = Fixtures.shuffledCards(new Random(Fixtures.SEED));
+    playedHand = Fixtures.playToShowDown(Fixtures.newHand(players, deckCards));
+    nextTable = new AtomicInteger();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    writeBehind.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public void forceEachSave() {
+    csv.saveHands(Map.of(nextTableId(), playedHand));
+  }
+
+  @Benchmark
+  public void groupCommit() {
+    writeBehind.saveHand(nextTableId(), playedHand);
+  }
+
+  private HandId nextTableId() {
+    return new HandId("table-" + nextTable.getAndIncrement() % NUMBER_OF_TABLES);
+  }
+}
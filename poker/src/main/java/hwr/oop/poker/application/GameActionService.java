@@ -8,23 +8,54 @@ import hwr.oop.poker.application.domain.betting.Play.Type;
 import hwr.oop.poker.application.ports.in.GameActionUseCase;
 import hwr.oop.poker.application.ports.out.LoadHandPort;
 import hwr.oop.poker.application.ports.out.SaveHandPort;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class GameActionService implements GameActionUseCase {
 
+  // enough stripes that unrelated hands rarely share one, a lock is only a few bytes
+  private static final int DEFAULT_STRIPES = 1024;
+
   private final LoadHandPort loadHandPort;
   private final SaveHandPort saveHandPort;
+  // load, play and save of a hand run under the stripe of its id, so no play is lost;
+  // ReentrantLock instead of synchronized, which would pin virtual threads
+  private final ReentrantLock[] stripes;
 
   public GameActionService(LoadHandPort loadHandPort, SaveHandPort saveHandPort) {
+    this(loadHandPort, saveHandPort, DEFAULT_STRIPES);
+  }
+
+  public GameActionService(LoadHandPort loadHandPort, SaveHandPort saveHandPort,
+      int numberOfStripes) {
+    if (numberOfStripes < 1 || Integer.bitCount(numberOfStripes) != 1) {
+      throw new IllegalArgumentException(
+          "Number of stripes must be a power of two, got " + numberOfStripes);
+    }
     this.loadHandPort = loadHandPort;
     this.saveHandPort = saveHandPort;
+    this.stripes = new ReentrantLock[numberOfStripes];
+    for (int i = 0; i < numberOfStripes; i++) {
+      stripes[i] = new ReentrantLock();
+    }
   }
 
   @Override
   public void gameAction(GameActionCommand command) {
     final var handId = convertHandId(command);
-    final Hand hand = loadHandPort.loadById(handId);
-    final Hand updated = hand.onCurrentRound(r -> play(r, command));
-    saveHandPort.saveHand(handId, updated);
+    final var stripe = stripeOf(handId);
+    stripe.lock();
+    try {
+      final Hand hand = loadHandPort.loadById(handId);
+      final Hand updated = hand.onCurrentRound(r -> play(r, command));
+      saveHandPort.saveHand(handId, updated);
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  private ReentrantLock stripeOf(HandId handId) {
+    final int hash = handId.hashCode();
+    return stripes[(hash ^ hash >>> 16) & stripes.length - 1];
   }
 
   private Player convertPlayer(GameActionCommand command) {
@@ -1,7 +1,6 @@
 package hwr.oop.poker.application.domain;
 
 import java.util.Comparator;
-import java.util.Objects;
 import java.util.stream.Stream;
 
 public class Card {
@@ -11,12 +10,44 @@ public class Card {
   public static final Comparator<Card> ASCENDING_BY_SYMBOL_STRENGTH =
       Comparator.comparingInt(o -> o.symbol().strength());
 
+  public static final int NUMBER_OF_CARDS = Color.values().length * Symbol.values().length;
+  private static final Card[] ALL_CARDS = createAllCards();
+
   private final Color color;
   private final Symbol number;
+  private final int index;
+
+  public static Card of(Color color, Symbol symbol) {
+    return ALL_CARDS[indexOf(color, symbol)];
+  }
 
-  public Card(Color color, Symbol number) {
+  public static Card fromIndex(int index) {
+    if (index < 0 || index >= NUMBER_OF_CARDS) {
+      throw new IllegalArgumentException("Card index must be within [0, " + NUMBER_OF_CARDS + ")"
+          + ", got: " + index);
+    }
+    return ALL_CARDS[index];
+  }
+
+  private Card(Color color, Symbol number) {
     this.color = color;
     this.number = number;
+    this.index = indexOf(color, number);
+  }
+
+  private static int indexOf(Color color, Symbol symbol) {
+    return color.ordinal() * Symbol.values().length + symbol.ordinal();
+  }
+
+  private static Card[] createAllCards() {
+    final Card[] cards = new Card[NUMBER_OF_CARDS];
+    for (Color color : Color.values()) {
+      for (Symbol symbol : Symbol.values()) {
+        final Card card = new Card(color, symbol);
+        cards[card.index()] = card;
+      }
+    }
+    return cards;
   }
 
   public Color color() {
@@ -27,6 +58,10 @@ public class Card {
     return number;
   }
 
+  public int index() {
+    return index;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -36,12 +71,12 @@ public class Card {
       return false;
     }
     Card card = (Card) o;
-    return color == card.color && number == card.number;
+    return index == card.index;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(color, number);
+    return index;
   }
 
   @Override
@@ -3,25 +3,29 @@ package hwr.oop.poker.application.domain;
 public interface ChipValue extends Comparable<ChipValue> {
 
   static ChipValue of(long value) {
-    return new PositiveChipValue(value);
+    return PositiveChipValue.valueOf(value);
   }
 
   static ChipValue zero() {
-    return ChipValue.of(0);
+    return PositiveChipValue.ZERO;
   }
 
   static ChipValue minRaise(ChipValue bet) {
-    return ChipValue.of(bet.value() * 2);
+    return ChipValue.of(minRaise(bet.value()));
+  }
+
+  static long minRaise(long bet) {
+    return bet * 2;
   }
 
   long value();
 
   default ChipValue minus(ChipValue other) {
-    return ChipValue.of(value() - other.value());
+    return other.value() == 0 ? this : ChipValue.of(value() - other.value());
   }
 
   default ChipValue plus(ChipValue other) {
-    return ChipValue.of(value() + other.value());
+    return other.value() == 0 ? this : ChipValue.of(value() + other.value());
   }
 
   @Override
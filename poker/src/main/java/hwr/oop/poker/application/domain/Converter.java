@@ -1,10 +1,13 @@
 package hwr.oop.poker.application.domain;
 
-import java.util.Arrays;
 import java.util.List;
 
 public class Converter {
 
+  // values() copies the array on every call, parsing a deck looks up 104 constants
+  private static final Symbol[] SYMBOLS = Symbol.values();
+  private static final Color[] COLORS = Color.values();
+
   public static Converter create() {
     return new Converter();
   }
@@ -16,40 +19,38 @@ public class Converter {
   public Card from(String singleCardString) {
     final var symbolString = singleCardString.substring(0, 1);
     final var colorString = singleCardString.substring(1, 2);
-    return new Card(
+    return Card.of(
         parseColor(colorString),
         parseSymbol(symbolString)
     );
   }
 
   private Symbol parseSymbol(String symbolString) {
-    final var element = Arrays.stream(Symbol.values())
-        .filter(s -> s.stringRepresentation().equals(symbolString))
-        .findFirst();
-    if (element.isEmpty()) {
-      throw new IllegalArgumentException("Can not parse symbol," +
-          " expected: [23456789TJQKA], actual: " + symbolString);
-    } else {
-      return element.get();
+    for (Symbol symbol : SYMBOLS) {
+      if (symbol.stringRepresentation().equals(symbolString)) {
+        return symbol;
+      }
     }
-
+    throw new IllegalArgumentException("Can not parse symbol," +
+        " expected: [23456789TJQKA], actual: " + symbolString);
   }
 
   private Color parseColor(String colorString) {
-    final var element = Arrays.stream(Color.values())
-        .filter(s -> s.stringRepresentation().equals(colorString))
-        .findFirst();
-    if (element.isEmpty()) {
-      throw new IllegalArgumentException("Can not parse color from string," +
-          " expected: [HDSC], actual: " + colorString);
-    } else {
-      return element.get();
+    for (Color color : COLORS) {
+      if (color.stringRepresentation().equals(colorString)) {
+        return color;
+      }
     }
+    throw new IllegalArgumentException("Can not parse color from string," +
+        " expected: [HDSC], actual: " + colorString);
   }
 
   public List<Card> convert(String cards) {
-    return Arrays.stream(cards.split(","))
-        .map(this::from)
-        .toList();
+    final String[] cardStrings = cards.split(",");
+    final Card[] converted = new Card[cardStrings.length];
+    for (int i = 0; i < cardStrings.length; i++) {
+      converted[i] = from(cardStrings[i]);
+    }
+    return List.of(converted);
   }
 }
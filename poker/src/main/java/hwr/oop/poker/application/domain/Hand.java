@@ -4,18 +4,20 @@ import hwr.oop.poker.application.domain.betting.BettingRound;
 import hwr.oop.poker.application.domain.betting.Play;
 import hwr.oop.poker.application.domain.betting.positions.RoundPosition;
 import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.cards.CardSet;
 import hwr.oop.poker.application.domain.cards.CommunityCards;
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
 import hwr.oop.poker.application.domain.cards.Flop;
 import hwr.oop.poker.application.domain.cards.River;
 import hwr.oop.poker.application.domain.cards.Turn;
+import hwr.oop.poker.application.domain.combinations.IncrementalEvaluation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -25,14 +27,63 @@ public class Hand implements CommunityCardsProvider {
   private final List<Player> players;
   private final BlindConfiguration blindConfiguration;
   private final HoleCards holeCards;
-  private final Map<RoundPosition, BettingRound> rounds;
+  // indexed by RoundPosition#position, rounds not reached yet are null
+  private final BettingRound[] rounds;
+  private final int current;
   private final CommunityCardsProvider communityCards;
+  // indexed by seat, like the hole cards
+  private final IncrementalEvaluation[] evaluations;
+  private final Pots pots;
+  // plays of the streets skipped by a restore, empty for hands played from the start
+  private final SettledPlays settledPlays;
   private final HandMemento memento;
 
   public static Builder newBuilder() {
     return new Builder();
   }
 
+  // opens the current street from the snapshot alone, the settled streets are closed without
+  // plays and their history is only taken from settledPlays when it is asked for
+  public static Hand restore(HandMemento memento, HandSnapshot snapshot,
+      Supplier<List<Play>> settledPlays) {
+    final int position = snapshot.position().position();
+    if (position == RoundPosition.PRE_FLOP.position()) {
+      throw new IllegalArgumentException("Cannot restore a snapshot before the flop");
+    }
+    final var deck = memento.deck();
+    final var players = memento.players();
+    final var seats = Seats.of(players);
+    if (snapshot.contributions().size() != seats.size()
+        || !players.containsAll(snapshot.players())) {
+      throw new IllegalArgumentException("Snapshot does not match the seated players "
+          + players + ": " + snapshot);
+    }
+    for (Player player : players) {
+      final long contribution = snapshot.contributions().get(seats.indexOf(player));
+      if (contribution < 0 || contribution > memento.stacks().chipsOf(player)) {
+        throw new IllegalArgumentException("Snapshot does not match the stacks "
+            + memento.stacks() + ": " + snapshot);
+      }
+    }
+    final var stacks = memento.stacks()
+        .minus(player -> ChipValue.of(snapshot.contributions().get(seats.indexOf(player))));
+    final var holeCards = HoleCards.createByDrawingFromDeck(deck, seats);
+    final var rounds = new BettingRound[RoundPosition.NUMBER_OF_POSITIONS];
+    for (int settled = 0; settled < position; settled++) {
+      rounds[settled] = BettingRound.closed(stacks, snapshot.players());
+    }
+    rounds[position] = BettingRound.create(stacks, snapshot.players());
+    final var pots = Pots.restore(seats, snapshot.contributions(), snapshot.players());
+    final var hand = createBasedOnOlderHand(deck, players, memento.blinds(), holeCards, rounds,
+        CommunityCards.empty(), startEvaluations(holeCards), pots,
+        SettledPlays.of(snapshot.settledPlays(), settledPlays), memento);
+    if (!List.copyOf(hand.cardsDealt()).equals(snapshot.communityCards())) {
+      throw new IllegalArgumentException("Snapshot does not match the deck, expected "
+          + snapshot.communityCards() + ", dealt " + hand.cardsDealt());
+    }
+    return hand;
+  }
+
   private static Hand createInitially(Deck deck, List<Player> players,
       BlindConfiguration blindConfiguration, Stacks stacks) {
     return new Hand(deck, players, blindConfiguration, stacks);
@@ -42,10 +93,14 @@ public class Hand implements CommunityCardsProvider {
       List<Player> players,
       BlindConfiguration blindConfiguration,
       HoleCards holeCards,
-      Map<RoundPosition, BettingRound> rounds,
+      BettingRound[] rounds,
       CommunityCardsProvider communityCards,
+      IncrementalEvaluation[] evaluations,
+      Pots pots,
+      SettledPlays settledPlays,
       HandMemento memento) {
-    return new Hand(deck, players, blindConfiguration, holeCards, rounds, communityCards, memento);
+    return new Hand(deck, players, blindConfiguration, holeCards, rounds, communityCards,
+        evaluations, pots, settledPlays, memento);
   }
 
   private Hand(Deck deck, List<Player> players, BlindConfiguration blindConfiguration,
@@ -54,10 +109,16 @@ public class Hand implements CommunityCardsProvider {
     this.deck = deck;
     this.players = players;
     this.blindConfiguration = blindConfiguration;
-    this.holeCards = HoleCards.createByDrawingFromDeck(deck, players);
+    final var seats = Seats.of(players);
+    this.holeCards = HoleCards.createByDrawingFromDeck(deck, seats);
     this.communityCards = CommunityCards.empty();
+    this.evaluations = startEvaluations(holeCards);
     final var preFlopRound = BettingRound.createPreFlop(stacks, blindConfiguration, players);
-    this.rounds = Map.of(RoundPosition.PRE_FLOP, preFlopRound);
+    this.pots = Pots.empty(seats).addAll(preFlopRound.plays().toList());
+    this.rounds = new BettingRound[RoundPosition.NUMBER_OF_POSITIONS];
+    this.rounds[RoundPosition.PRE_FLOP.position()] = preFlopRound;
+    this.current = RoundPosition.PRE_FLOP.position();
+    this.settledPlays = SettledPlays.none();
   }
 
   private Hand(
@@ -65,35 +126,79 @@ public class Hand implements CommunityCardsProvider {
       List<Player> players,
       BlindConfiguration blindConfiguration,
       HoleCards holeCards,
-      Map<RoundPosition, BettingRound> rounds,
+      BettingRound[] rounds,
       CommunityCardsProvider communityCards,
+      IncrementalEvaluation[] evaluations,
+      Pots pots,
+      SettledPlays settledPlays,
       HandMemento memento
   ) {
     this.deck = deck;
     this.players = players;
     this.blindConfiguration = blindConfiguration;
     this.holeCards = holeCards;
-    this.rounds = createMapBasedOn(rounds);
+    this.rounds = createRoundsBasedOn(rounds);
+    this.current = latestRound(this.rounds);
     this.communityCards = buildCommunityCards(deck, communityCards);
+    this.evaluations = dealToEvaluations(evaluations, communityCards);
+    this.pots = pots;
+    this.settledPlays = settledPlays;
     this.memento = memento;
   }
 
-  private CommunityCardsProvider buildCommunityCards(Deck deck,
+  private static IncrementalEvaluation[] startEvaluations(HoleCards holeCards) {
+    final var startedEvaluations = new IncrementalEvaluation[holeCards.seats().size()];
+    for (int seat = 0; seat < startedEvaluations.length; seat++) {
+      startedEvaluations[seat] = IncrementalEvaluation.start(holeCards.cardSetAt(seat));
+    }
+    return startedEvaluations;
+  }
+
+  private IncrementalEvaluation[] dealToEvaluations(IncrementalEvaluation[] oldEvaluations,
       CommunityCardsProvider oldCommunityCards) {
-    final var position = currentPosition();
-    final var currentRound = rounds.get(position);
-    if (!currentRound.isFinished()) {
-      position.ifRequiresBurn(deck::burn);
-      return position.buildCardsFor(deck, oldCommunityCards);
+    if (communityCards == oldCommunityCards) {
+      return oldEvaluations;
     } else {
-      return oldCommunityCards;
+      final var streetCards = communityCards.cardSet().without(oldCommunityCards.cardSet());
+      final var dealtEvaluations = new IncrementalEvaluation[oldEvaluations.length];
+      for (int seat = 0; seat < dealtEvaluations.length; seat++) {
+        dealtEvaluations[seat] = oldEvaluations[seat].deal(streetCards);
+      }
+      return dealtEvaluations;
+    }
+  }
+
+  // every opened round had two players left, several streets are dealt at once after all-ins
+  private CommunityCardsProvider buildCommunityCards(Deck deck,
+      CommunityCardsProvider oldCommunityCards) {
+    CommunityCardsProvider dealt = oldCommunityCards;
+    for (int position = 0; position <= current; position++) {
+      final var roundPosition = RoundPosition.of(position);
+      if (!roundPosition.isDealtIn(dealt)) {
+        roundPosition.ifRequiresBurn(deck::burn);
+        dealt = roundPosition.buildCardsFor(deck, dealt);
+      }
     }
+    return dealt;
   }
 
   public List<Card> holeCards(Player player) {
     return holeCards.of(player);
   }
 
+  public CardSet holeCardSet(Player player) {
+    return holeCards.cardSetOf(player);
+  }
+
+  public IncrementalEvaluation evaluation(Player player) {
+    final int seat = holeCards.seats().indexOf(player);
+    if (seat == Seats.NO_SEAT) {
+      throw new InvalidPlayerForHandException("Queried player is not seated at this hand,"
+          + " expected one of: " + players + ", got: " + player);
+    }
+    return evaluations[seat];
+  }
+
   public Player smallBlind() {
     return players.getFirst();
   }
@@ -115,7 +220,11 @@ public class Hand implements CommunityCardsProvider {
   }
 
   public ChipValue potSize() {
-    return () -> blindConfiguration.bigBlind().value() + blindConfiguration.smallBlind().value();
+    return pots.total();
+  }
+
+  public Pots pots() {
+    return pots;
   }
 
   @Override
@@ -138,6 +247,11 @@ public class Hand implements CommunityCardsProvider {
     return communityCards.cardsDealt();
   }
 
+  @Override
+  public CardSet cardSet() {
+    return communityCards.cardSet();
+  }
+
   public boolean preFlopRoundPlayed() {
     return isRoundPlayed(RoundPosition.PRE_FLOP);
   }
@@ -155,51 +269,84 @@ public class Hand implements CommunityCardsProvider {
   }
 
   public Hand onCurrentRound(UnaryOperator<BettingRound> function) {
-    final var position = currentPosition();
-    final var currentRound = rounds.get(position);
+    final var currentRound = rounds[current];
     if (!currentRound.isFinished()) {
-      final var round = roundOn(position).orElseThrow();
-      return accept(function.apply(round));
+      return accept(function.apply(currentRound));
     } else {
       throw new PlayOnOnFinishedHandException();
     }
   }
 
+  // trusted replay of known plays, works on one copy of the rounds and builds a single hand
+  public Hand replay(List<UnaryOperator<BettingRound>> functions) {
+    BettingRound[] replayedRounds = rounds.clone();
+    int position = current;
+    final List<Play> newPlays = new ArrayList<>();
+    for (UnaryOperator<BettingRound> function : functions) {
+      final var round = replayedRounds[position];
+      if (round.isFinished()) {
+        throw new PlayOnOnFinishedHandException();
+      }
+      final var playedRound = function.apply(round);
+      newPlays.addAll(playedRound.playsSince(round));
+      replayedRounds[position] = playedRound;
+      replayedRounds = createRoundsBasedOn(replayedRounds);
+      position = latestRound(replayedRounds);
+    }
+    return copy()
+        .rounds(replayedRounds)
+        .pots(pots.addAll(newPlays))
+        .build();
+  }
+
   public boolean isFinished() {
-    final var position = currentPosition();
-    final var currentRound = rounds.get(position);
-    return currentRound.isFinished();
+    return rounds[current].isFinished();
   }
 
   public Stacks stacks() {
-    final var position = currentPosition();
-    final var round = rounds.get(position);
-    return round.stacks();
+    return rounds[current].stacks();
+  }
+
+  public Optional<Player> playerToAct() {
+    return rounds[current].turn();
   }
 
   public RoundPosition currentPosition() {
-    return currentPosition(rounds);
+    return RoundPosition.of(current);
+  }
+
+  // taken at the start of the current street, the blinds of the pre-flop are not restorable
+  public Optional<HandSnapshot> snapshot() {
+    if (current == RoundPosition.PRE_FLOP.position()) {
+      return Optional.empty();
+    }
+    int settled = settledPlays.size();
+    for (int position = 0; position < current; position++) {
+      settled += rounds[position].numberOfPlays();
+    }
+    final var currentRound = rounds[current];
+    final var startingStacks = currentRound.startingStacks();
+    final List<Long> contributions = new ArrayList<>(players.size());
+    for (Player player : players) {
+      contributions.add(memento.stacks().chipsOf(player) - startingStacks.chipsOf(player));
+    }
+    return Optional.of(new HandSnapshot(currentPosition(), contributions,
+        currentRound.players(), List.copyOf(cardsDealt()), settled));
   }
 
   private Hand accept(BettingRound round) {
     if (!isFinished()) {
-      final var position = currentPosition();
       final var copy = copy();
-      final var unmodifiableMap = createNewMapWith(round, position);
-      copy.rounds(unmodifiableMap);
+      final var updatedRounds = rounds.clone();
+      updatedRounds[current] = round;
+      copy.rounds(updatedRounds);
+      copy.pots(pots.addAll(round.playsSince(rounds[current])));
       return copy.build();
     } else {
       throw new PlayOnOnFinishedHandException();
     }
   }
 
-  private Map<RoundPosition, BettingRound> createNewMapWith(BettingRound round,
-      RoundPosition currentPosition) {
-    final Map<RoundPosition, BettingRound> mutableMap = new HashMap<>(rounds);
-    mutableMap.put(currentPosition, round);
-    return Collections.unmodifiableMap(mutableMap);
-  }
-
   private Builder copy() {
     return newBuilder()
         .deck(deck)
@@ -208,7 +355,10 @@ public class Hand implements CommunityCardsProvider {
         .holeCards(holeCards)
         .rounds(rounds)
         .memento(memento)
-        .communityCards(communityCards);
+        .communityCards(communityCards)
+        .evaluations(evaluations)
+        .pots(pots)
+        .settledPlays(settledPlays);
   }
 
   private boolean isRoundPlayed(RoundPosition roundPosition) {
@@ -217,86 +367,55 @@ public class Hand implements CommunityCardsProvider {
   }
 
   private Optional<BettingRound> roundOn(RoundPosition position) {
-    final boolean containsKey = rounds.containsKey(position);
-    if (!containsKey) {
-      return Optional.empty();
-    } else {
-      final BettingRound round = rounds.get(position);
-      return Optional.of(round);
-    }
-  }
-
-  private Map<RoundPosition, BettingRound> createMapBasedOn(
-      Map<RoundPosition, BettingRound> rounds) {
-    Map<RoundPosition, BettingRound> modifiableMap = new HashMap<>(rounds);
-    final boolean riverPresentAndFinished =
-        rounds.containsKey(RoundPosition.RIVER) && rounds.get(RoundPosition.RIVER).isFinished();
-    if (!riverPresentAndFinished) {
-      final var roundPosition = currentPosition(rounds);
-      final var playersForNewRound = playersForNewRound(rounds, roundPosition);
-      final var stacksFromPreviousRound = stacksForNewRound(rounds, roundPosition);
-      final var freshBettingRound = BettingRound.create(stacksFromPreviousRound,
-          playersForNewRound);
-      modifiableMap.putIfAbsent(roundPosition, freshBettingRound);
-    }
-    return Collections.unmodifiableMap(modifiableMap);
-  }
-
-  private Stacks stacksForNewRound(Map<RoundPosition, BettingRound> rounds,
-      RoundPosition roundPosition) {
-    final Optional<RoundPosition> optional = roundPosition.previous();
-    if (optional.isPresent()) {
-      final var previous = optional.orElseThrow();
-      final var round = rounds.get(previous);
-      return round.stacks();
-    } else {
-      return rounds.get(roundPosition).stacks();
+    return Optional.ofNullable(rounds[position.position()]);
+  }
+
+  // opens the next round once the latest one is finished and at least two players are left,
+  // rounds without anybody left to act finish right away and open the one after them
+  private static BettingRound[] createRoundsBasedOn(BettingRound[] rounds) {
+    BettingRound[] updatedRounds = rounds;
+    int latest = latestRound(rounds);
+    while (isNextRoundToOpen(latest, updatedRounds[latest])) {
+      final var latestRound = updatedRounds[latest];
+      if (updatedRounds == rounds) {
+        updatedRounds = rounds.clone();
+      }
+      updatedRounds[latest + 1] = BettingRound.create(latestRound.stacks(),
+          latestRound.remainingPlayers());
+      latest++;
     }
+    return updatedRounds;
   }
 
-  private List<Player> playersForNewRound(Map<RoundPosition, BettingRound> rounds,
-      RoundPosition roundPosition) {
-    final var optional = roundPosition.previous();
-    if (optional.isPresent()) {
-      final var previous = optional.orElseThrow();
-      final var round = rounds.get(previous);
-      return round.remainingPlayers();
-    } else {
-      return rounds.get(roundPosition).remainingPlayers();
-    }
+  private static boolean isNextRoundToOpen(int latest, BettingRound latestRound) {
+    final boolean isLastPosition = latest == RoundPosition.NUMBER_OF_POSITIONS - 1;
+    final boolean handIsOver = isLastPosition || latestRound.remainingPlayers().size() < 2;
+    return latestRound.isFinished() && !handIsOver;
   }
 
-  private RoundPosition currentPosition(Map<RoundPosition, BettingRound> someRounds) {
-    final var candidatePosition = latestRound(someRounds);
-    final BettingRound candidateRound = someRounds.get(candidatePosition);
-    if (candidateRound.isFinished()) {
-      final var nextPosition = candidatePosition.nextPosition();
-      return nextPosition.orElse(candidatePosition);  // stay on finished round (in case of river)
-    } else {
-      return candidatePosition;
+  private static int latestRound(BettingRound[] someRounds) {
+    int latest = 0;
+    while (latest + 1 < someRounds.length && someRounds[latest + 1] != null) {
+      latest++;
     }
-  }
-
-  private RoundPosition latestRound(Map<RoundPosition, BettingRound> someRounds) {
-    return someRounds.keySet().stream()
-        .reduce(RoundPosition::latest)
-        .orElseThrow();
+    return latest;
   }
 
   public Optional<ShowDown> showDown() {
     if (isFinished()) {
-      final ShowDown showDown = ShowDown.create(communityCards, holeCards, players);
+      final ShowDown showDown = ShowDown.create(players, this::evaluation);
       return Optional.of(showDown);
     } else {
       return Optional.empty();
     }
   }
 
+  public Optional<Stacks> finalStacks() {
+    return showDown().map(showDown -> pots.resolve(stacks(), showDown.ranking()));
+  }
+
   public List<Player> remainingPlayers() {
-    final var position = currentPosition();
-    assert rounds.containsKey(position);
-    final BettingRound currentRound = rounds.get(position);
-    return currentRound.remainingPlayers();
+    return rounds[current].remainingPlayers();
   }
 
   public HandMemento restoreMemento() {
@@ -304,8 +423,12 @@ public class Hand implements CommunityCardsProvider {
   }
 
   public Stream<Play> plays() {
-    return RoundPosition.all()
-        .flatMap(p -> rounds.containsKey(p) ? rounds.get(p).plays() : Stream.empty());
+    final Stream<Play> played = Arrays.stream(rounds)
+        .filter(Objects::nonNull)
+        .flatMap(BettingRound::plays);
+    return settledPlays.size() == 0
+        ? played
+        : Stream.concat(settledPlays.plays().stream(), played);
   }
 
   public static class Builder {
@@ -314,8 +437,11 @@ public class Hand implements CommunityCardsProvider {
     private List<Player> players;
     private BlindConfiguration blindConfiguration;
     private HoleCards holeCards;
-    private Map<RoundPosition, BettingRound> rounds;
+    private BettingRound[] rounds;
     private CommunityCardsProvider communityCards;
+    private IncrementalEvaluation[] evaluations;
+    private Pots pots;
+    private SettledPlays settledPlays;
     private Stacks stacks;
     private HandMemento memento;
 
@@ -325,20 +451,24 @@ public class Hand implements CommunityCardsProvider {
       this.blindConfiguration = null;
       this.holeCards = null;
       this.communityCards = null;
+      this.evaluations = null;
+      this.pots = null;
+      this.settledPlays = SettledPlays.none();
       this.rounds = null;
       this.stacks = null;
       this.memento = null;
     }
 
     public Hand build() {
-      final var hasIncompleteInfo = Stream.of(holeCards, rounds, communityCards, memento)
+      final var hasIncompleteInfo = Stream
+          .of(holeCards, rounds, communityCards, evaluations, pots, memento)
           .anyMatch(Objects::isNull);
       if (hasIncompleteInfo) {
         return Hand.createInitially(deck, players, blindConfiguration, stacks);
       } else {
         return Hand.createBasedOnOlderHand(
             deck, players, blindConfiguration, holeCards, rounds,
-            communityCards, memento
+            communityCards, evaluations, pots, settledPlays, memento
         );
       }
     }
@@ -363,7 +493,7 @@ public class Hand implements CommunityCardsProvider {
       return this;
     }
 
-    private Builder rounds(Map<RoundPosition, BettingRound> rounds) {
+    private Builder rounds(BettingRound[] rounds) {
       this.rounds = rounds;
       return this;
     }
@@ -373,6 +503,21 @@ public class Hand implements CommunityCardsProvider {
       return this;
     }
 
+    private Builder evaluations(IncrementalEvaluation[] evaluations) {
+      this.evaluations = evaluations;
+      return this;
+    }
+
+    private Builder pots(Pots pots) {
+      this.pots = pots;
+      return this;
+    }
+
+    private Builder settledPlays(SettledPlays settledPlays) {
+      this.settledPlays = settledPlays;
+      return this;
+    }
+
     public Builder stacks(Stacks stacks) {
       this.stacks = stacks;
       return this;
@@ -384,6 +529,13 @@ public class Hand implements CommunityCardsProvider {
     }
   }
 
+  public static class InvalidPlayerForHandException extends RuntimeException {
+
+    public InvalidPlayerForHandException(String message) {
+      super(message);
+    }
+  }
+
   public static class PlayOnOnFinishedHandException extends RuntimeException {
     // nothing to do
   }
@@ -0,0 +1,22 @@
+package hwr.oop.poker.application.domain;
+
+import hwr.oop.poker.application.domain.betting.positions.RoundPosition;
+import java.util.List;
+
+// derived state at the start of the current street: the chips each seat committed so far, the
+// players still in the hand, the board, and how many plays of the hand it covers
+public record HandSnapshot(RoundPosition position,
+                           List<Long> contributions,
+                           List<Player> players,
+                           List<Card> communityCards,
+                           int settledPlays) {
+
+  public HandSnapshot {
+    if (settledPlays < 0) {
+      throw new IllegalArgumentException("Snapshot cannot cover " + settledPlays + " plays");
+    }
+    contributions = List.copyOf(contributions);
+    players = List.copyOf(players);
+    communityCards = List.copyOf(communityCards);
+  }
+}
@@ -1,62 +1,71 @@
 package hwr.oop.poker.application.domain;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import hwr.oop.poker.application.domain.cards.CardSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.Supplier;
 
 public class HoleCards {
 
-  private final Map<Player, List<Card>> assignment;
+  private static final int CARDS_PER_PLAYER = 2;
+  private static final int INDEX_BITS = Byte.SIZE;
+  private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+
+  // pairs[seat] holds the card indices of seats.at(seat), first card in the upper byte
+  private final Seats seats;
+  private final int[] pairs;
 
   public static HoleCards createByDrawingFromDeck(Deck deck, List<Player> players) {
-    return new HoleCards(deck, players);
+    return createByDrawingFromDeck(deck, Seats.of(players));
+  }
+
+  public static HoleCards createByDrawingFromDeck(Deck deck, Seats seats) {
+    return new HoleCards(deck, seats);
   }
 
-  private HoleCards(Deck deck, List<Player> players) {
-    this.assignment = drawHoleCardsFromDeck(deck::draw, players);
+  private HoleCards(Deck deck, Seats seats) {
+    this.seats = seats;
+    this.pairs = drawHoleCardsFromDeck(deck::draw, seats.size());
   }
 
   public List<Card> of(Player player) {
-    return assignment.get(player);
+    final int seat = seats.indexOf(player);
+    return seat == Seats.NO_SEAT ? null : cardsAt(seat);
+  }
+
+  public CardSet cardSetOf(Player player) {
+    final int seat = seats.indexOf(player);
+    return seat == Seats.NO_SEAT ? null : cardSetAt(seat);
+  }
+
+  public Seats seats() {
+    return seats;
   }
 
-  private Map<Player, List<Card>> drawHoleCardsFromDeck(Supplier<Card> cardSupplier,
-      List<Player> players) {
-    final var mutableMap = drawCardsToMutableMap(cardSupplier, players);
-    return convertToImmutableMap(mutableMap);
+  public List<Card> cardsAt(int seat) {
+    return List.of(Card.fromIndex(first(pairs[seat])), Card.fromIndex(second(pairs[seat])));
   }
 
-  private Map<Player, List<Card>> drawCardsToMutableMap(Supplier<Card> cardSupplier,
-      List<Player> players) {
-    final Map<Player, List<Card>> mutableMap = new HashMap<>();
-    for (int i = 0; i < 2; i++) {
-      for (Player player : players) {
-        final var cards = mutableMap
-            .computeIfAbsent(player, p -> new ArrayList<>());
+  public CardSet cardSetAt(int seat) {
+    return CardSet.fromMask(1L << first(pairs[seat]) | 1L << second(pairs[seat]));
+  }
+
+  private static int[] drawHoleCardsFromDeck(Supplier<Card> cardSupplier, int numberOfSeats) {
+    final int[] pairs = new int[numberOfSeats];
+    for (int i = 0; i < CARDS_PER_PLAYER; i++) {
+      for (int seat = 0; seat < numberOfSeats; seat++) {
         final Card drawnCard = cardSupplier.get();
-        cards.add(drawnCard);
+        pairs[seat] = pairs[seat] << INDEX_BITS | drawnCard.index();
       }
     }
-    return mutableMap;
+    return pairs;
   }
 
-  private Map<Player, List<Card>> convertToImmutableMap(Map<Player, List<Card>> mutableMap) {
-    final var mutableMapOfImmutableLists = convertToImmutableLists(mutableMap);
-    return Collections.unmodifiableMap(mutableMapOfImmutableLists);
+  private static int first(int pair) {
+    return pair >>> INDEX_BITS;
   }
 
-  private Map<Player, List<Card>> convertToImmutableLists(Map<Player, List<Card>> mutableMap) {
-    for (var entry : mutableMap.entrySet()) {
-      final var player = entry.getKey();
-      final var cards = entry.getValue();
-      final var immutableLIst = List.copyOf(cards);
-      mutableMap.put(player, immutableLIst);
-    }
-    return mutableMap;
+  private static int second(int pair) {
+    return pair & INDEX_MASK;
   }
 
   @Override
@@ -68,11 +77,25 @@ public class HoleCards {
       return false;
     }
     HoleCards holeCards = (HoleCards) o;
-    return Objects.equals(assignment, holeCards.assignment);
+    if (seats.size() != holeCards.seats.size()) {
+      return false;
+    }
+    for (int seat = 0; seat < pairs.length; seat++) {
+      final int otherSeat = holeCards.seats.indexOf(seats.at(seat));
+      if (otherSeat == Seats.NO_SEAT || holeCards.pairs[otherSeat] != pairs[seat]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(assignment);
+    // independent of the seat order, just like equals
+    int hash = 0;
+    for (int seat = 0; seat < pairs.length; seat++) {
+      hash += seats.at(seat).hashCode() ^ pairs[seat];
+    }
+    return hash;
   }
 }
@@ -2,6 +2,25 @@ package hwr.oop.poker.application.domain;
 
 record PositiveChipValue(long value) implements ChipValue {
 
+  // blinds and most bets are small, those instances are shared like in Long.valueOf
+  private static final int CACHED_VALUES = 1025;
+  private static final ChipValue[] CACHE = new ChipValue[CACHED_VALUES];
+
+  static {
+    for (int value = 0; value < CACHED_VALUES; value++) {
+      CACHE[value] = new PositiveChipValue(value);
+    }
+  }
+
+  static final ChipValue ZERO = CACHE[0];
+
+  static ChipValue valueOf(long value) {
+    if (value >= 0 && value < CACHED_VALUES) {
+      return CACHE[(int) value];
+    }
+    return new PositiveChipValue(value);
+  }
+
   PositiveChipValue {
     assertIsPositive(value);
   }
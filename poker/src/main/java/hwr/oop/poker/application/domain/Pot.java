@@ -0,0 +1,7 @@
+package hwr.oop.poker.application.domain;
+
+import java.util.List;
+
+public record Pot(ChipValue amount, List<Player> eligiblePlayers) {
+
+}
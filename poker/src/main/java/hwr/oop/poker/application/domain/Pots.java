@@ -0,0 +1,262 @@
+package hwr.oop.poker.application.domain;
+
+import hwr.oop.poker.application.domain.betting.Play;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class Pots {
+
+  private static final int MAX_SEATS = Long.SIZE;
+  private static final int SEAT_BITS = Integer.numberOfTrailingZeros(MAX_SEATS);
+  private static final int UNRANKED = Integer.MAX_VALUE;
+
+  private final Seats seats;
+  // chips each seat put in over all betting rounds of the hand
+  private final long[] committed;
+  private final long foldedSeats;
+  private final long total;
+
+  public static Pots empty(Seats seats) {
+    if (seats.size() > MAX_SEATS) {
+      throw new IllegalArgumentException(
+          "At most " + MAX_SEATS + " players per hand, got " + seats.size());
+    }
+    return new Pots(seats, new long[seats.size()], 0L, 0L);
+  }
+
+  // chips committed so far by seat, every seat that is not among the remaining players folded
+  static Pots restore(Seats seats, List<Long> contributions, List<Player> remainingPlayers) {
+    final long[] committed = new long[seats.size()];
+    long foldedSeats = 0L;
+    long total = 0L;
+    for (int seat = 0; seat < committed.length; seat++) {
+      committed[seat] = contributions.get(seat);
+      total += committed[seat];
+      if (!remainingPlayers.contains(seats.at(seat))) {
+        foldedSeats |= 1L << seat;
+      }
+    }
+    return new Pots(seats, committed, foldedSeats, total);
+  }
+
+  private Pots(Seats seats, long[] committed, long foldedSeats, long total) {
+    this.seats = seats;
+    this.committed = committed;
+    this.foldedSeats = foldedSeats;
+    this.total = total;
+  }
+
+  public Pots add(Play play) {
+    return addAll(List.of(play));
+  }
+
+  public Pots addAll(List<Play> plays) {
+    if (plays.isEmpty()) {
+      return this;
+    }
+    final long[] updatedCommitted = committed.clone();
+    long updatedFoldedSeats = foldedSeats;
+    long updatedTotal = total;
+    for (Play play : plays) {
+      final int seat = seatOf(play.player());
+      final long chips = play.chipValue().value();
+      updatedCommitted[seat] += chips;
+      updatedTotal += chips;
+      if (play.isFold()) {
+        updatedFoldedSeats |= 1L << seat;
+      }
+    }
+    return new Pots(seats, updatedCommitted, updatedFoldedSeats, updatedTotal);
+  }
+
+  public ChipValue total() {
+    return ChipValue.of(total);
+  }
+
+  public ChipValue committedBy(Player player) {
+    return ChipValue.of(committed[seatOf(player)]);
+  }
+
+  // main pot first, followed by the side pots
+  public List<Pot> pots() {
+    final List<Layer> layers = layers();
+    final List<Pot> pots = new ArrayList<>(layers.size());
+    for (Layer layer : layers) {
+      pots.add(new Pot(ChipValue.of(layer.amount()), playersIn(layer.eligibleSeats())));
+    }
+    return Collections.unmodifiableList(pots);
+  }
+
+  public Stacks resolve(Stacks stacks, List<List<Player>> ranking) {
+    final int[] ranks = ranksBySeat(ranking);
+    final long[] winnings = new long[committed.length];
+    final long[] shareWhenJoined = new long[committed.length];
+    final List<Layer> layers = layers();
+    // walking down from the last side pot only ever adds eligible seats, so the winners are
+    // tracked as a running share that is paid out once a seat drops out of the winners
+    long share = 0L;
+    long winners = 0L;
+    int bestRank = UNRANKED;
+    long eligibleAbove = 0L;
+    for (int i = layers.size() - 1; i >= 0; i--) {
+      final Layer layer = layers.get(i);
+      long joining = layer.eligibleSeats() & ~eligibleAbove;
+      while (joining != 0) {
+        final int seat = Long.numberOfTrailingZeros(joining);
+        joining &= joining - 1;
+        if (winners == 0 || ranks[seat] < bestRank) {
+          payOut(winners, share, shareWhenJoined, winnings);
+          winners = 0L;
+          bestRank = ranks[seat];
+        }
+        if (ranks[seat] == bestRank) {
+          winners |= 1L << seat;
+          shareWhenJoined[seat] = share;
+        }
+      }
+      eligibleAbove = layer.eligibleSeats();
+      final int numberOfWinners = Long.bitCount(winners);
+      share += layer.amount() / numberOfWinners;
+      // odd chips go to the first winner in seat order
+      winnings[Long.numberOfTrailingZeros(winners)] += layer.amount() % numberOfWinners;
+    }
+    payOut(winners, share, shareWhenJoined, winnings);
+    return stacks.plus(seats, winnings);
+  }
+
+  private static void payOut(long winners, long share, long[] shareWhenJoined, long[] winnings) {
+    long remaining = winners;
+    while (remaining != 0) {
+      final int seat = Long.numberOfTrailingZeros(remaining);
+      remaining &= remaining - 1;
+      winnings[seat] += share - shareWhenJoined[seat];
+    }
+  }
+
+  // sweeps the seats by commitment, every distinct level of a seat still in the hand cuts a pot
+  private List<Layer> layers() {
+    final int[] order = seatsByCommitment();
+    final int numberOfSeats = order.length;
+    final List<Layer> layers = new ArrayList<>();
+    long eligibleSeats = ~foldedSeats & allSeats();
+    long previousLevel = 0L;
+    long previousSum = 0L;
+    long committedBelow = 0L;
+    for (int i = 0; i < numberOfSeats; i++) {
+      final int seat = order[i];
+      final long level = committed[seat];
+      if (!hasFolded(seat) && level > previousLevel) {
+        // every seat sorted before i put in at most level, every other seat at least level
+        final long sum = committedBelow + level * (numberOfSeats - i);
+        layers.add(new Layer(sum - previousSum, eligibleSeats));
+        previousSum = sum;
+        previousLevel = level;
+      }
+      eligibleSeats &= ~(1L << seat);
+      committedBelow += level;
+    }
+    if (!layers.isEmpty() && previousSum < total) {
+      // folded seats that put in more than anybody still in the hand, dead money for the top pot
+      final Layer top = layers.removeLast();
+      layers.add(new Layer(top.amount() + total - previousSum, top.eligibleSeats()));
+    }
+    return layers;
+  }
+
+  private int[] seatsByCommitment() {
+    final long[] keys = new long[committed.length];
+    for (int seat = 0; seat < keys.length; seat++) {
+      keys[seat] = committed[seat] << SEAT_BITS | seat;
+    }
+    Arrays.sort(keys);
+    final int[] order = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      order[i] = (int) (keys[i] & MAX_SEATS - 1);
+    }
+    return order;
+  }
+
+  private int[] ranksBySeat(List<List<Player>> ranking) {
+    final Map<Player, Integer> seatByPlayer = new HashMap<>();
+    for (int seat = 0; seat < seats.size(); seat++) {
+      seatByPlayer.put(seats.at(seat), seat);
+    }
+    final int[] ranks = new int[committed.length];
+    Arrays.fill(ranks, UNRANKED);
+    for (int rank = 0; rank < ranking.size(); rank++) {
+      for (Player player : ranking.get(rank)) {
+        final Integer seat = seatByPlayer.get(player);
+        if (seat != null) {
+          ranks[seat] = rank;
+        }
+      }
+    }
+    return ranks;
+  }
+
+  private List<Player> playersIn(long seatMask) {
+    final List<Player> players = new ArrayList<>(Long.bitCount(seatMask));
+    long remaining = seatMask;
+    while (remaining != 0) {
+      players.add(seats.at(Long.numberOfTrailingZeros(remaining)));
+      remaining &= remaining - 1;
+    }
+    return Collections.unmodifiableList(players);
+  }
+
+  private long allSeats() {
+    return committed.length == MAX_SEATS ? -1L : (1L << committed.length) - 1;
+  }
+
+  private boolean hasFolded(int seat) {
+    return (foldedSeats & 1L << seat) != 0;
+  }
+
+  private int seatOf(Player player) {
+    final int seat = seats.indexOf(player);
+    if (seat == Seats.NO_SEAT) {
+      throw new InvalidPlayerForPotException("Tried to add chips for " + player
+          + ", expected any of " + seats.players());
+    }
+    return seat;
+  }
+
+  private record Layer(long amount, long eligibleSeats) {
+
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Pots pots = (Pots) o;
+    return foldedSeats == pots.foldedSeats
+        && seats.equals(pots.seats)
+        && Arrays.equals(committed, pots.committed);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * seats.hashCode() + Arrays.hashCode(committed)) + Long.hashCode(foldedSeats);
+  }
+
+  @Override
+  public String toString() {
+    return "Pots{total=" + total + ", pots=" + pots() + '}';
+  }
+
+  public static class InvalidPlayerForPotException extends RuntimeException {
+
+    public InvalidPlayerForPotException(String message) {
+      super(message);
+    }
+  }
+}
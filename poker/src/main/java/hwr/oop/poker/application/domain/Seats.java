@@ -0,0 +1,62 @@
+package hwr.oop.poker.application.domain;
+
+import java.util.List;
+
+public final class Seats {
+
+  public static final int NO_SEAT = -1;
+
+  private final List<Player> players;
+
+  public static Seats of(List<Player> players) {
+    return new Seats(players);
+  }
+
+  private Seats(List<Player> players) {
+    this.players = List.copyOf(players);
+  }
+
+  // tables are small, a scan for the same instance beats hashing the player's id
+  public int indexOf(Player player) {
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (players.get(seat) == player) {
+        return seat;
+      }
+    }
+    return players.indexOf(player);
+  }
+
+  public Player at(int seat) {
+    return players.get(seat);
+  }
+
+  public int size() {
+    return players.size();
+  }
+
+  public List<Player> players() {
+    return players;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Seats seats = (Seats) o;
+    return players.equals(seats.players);
+  }
+
+  @Override
+  public int hashCode() {
+    return players.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "Seats" + players;
+  }
+}
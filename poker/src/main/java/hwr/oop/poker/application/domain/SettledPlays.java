@@ -0,0 +1,47 @@
+package hwr.oop.poker.application.domain;
+
+import hwr.oop.poker.application.domain.betting.Play;
+import java.util.List;
+import java.util.function.Supplier;
+
+// plays of the streets a restored hand skipped, only rebuilt once the history is asked for
+final class SettledPlays {
+
+  private static final SettledPlays NONE = new SettledPlays(0, List::of);
+
+  private final int size;
+  private final Supplier<List<Play>> supplier;
+  // written at most once per rebuild, a racing second rebuild yields the same plays
+  private volatile List<Play> plays;
+
+  static SettledPlays none() {
+    return NONE;
+  }
+
+  static SettledPlays of(int size, Supplier<List<Play>> supplier) {
+    return size == 0 ? NONE : new SettledPlays(size, supplier);
+  }
+
+  private SettledPlays(int size, Supplier<List<Play>> supplier) {
+    this.size = size;
+    this.supplier = supplier;
+    this.plays = null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  List<Play> plays() {
+    List<Play> rebuilt = plays;
+    if (rebuilt == null) {
+      rebuilt = List.copyOf(supplier.get());
+      if (rebuilt.size() != size) {
+        throw new IllegalArgumentException("Expected " + size
+            + " settled plays before the snapshot, got " + rebuilt.size());
+      }
+      plays = rebuilt;
+    }
+    return rebuilt;
+  }
+}
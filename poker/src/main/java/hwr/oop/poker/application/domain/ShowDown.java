@@ -2,75 +2,99 @@ package hwr.oop.poker.application.domain;
 
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
 import hwr.oop.poker.application.domain.combinations.Combination;
-import java.util.Collection;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import hwr.oop.poker.application.domain.combinations.IncrementalEvaluation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Function;
 
 public class ShowDown {
 
-  private final CommunityCardsProvider communityCardsProvider;
-  private final HoleCards holeCards;
-  private final Map<Player, Combination> combinationMap;
-  private final Player winner;
+  private final Map<Player, IncrementalEvaluation> evaluationMap;
+  private final List<List<Player>> ranking;
 
   public static ShowDown create(CommunityCardsProvider communityCardsProvider, HoleCards holeCards,
       List<Player> players) {
-    return new ShowDown(communityCardsProvider, holeCards, players);
+    return create(communityCardsProvider, holeCards, players, HandEvaluator.computed());
   }
 
-  private ShowDown(CommunityCardsProvider communityCardsProvider, HoleCards holeCards,
-      List<Player> players) {
-    this.communityCardsProvider = communityCardsProvider;
-    this.holeCards = holeCards;
-    this.combinationMap = createCombinationMap(players);
-    this.winner = queryWinner();
+  public static ShowDown create(CommunityCardsProvider communityCardsProvider, HoleCards holeCards,
+      List<Player> players, HandEvaluator evaluator) {
+    final var board = communityCardsProvider.cardSet();
+    return create(players,
+        p -> IncrementalEvaluation.start(holeCards.cardSetOf(p), evaluator).deal(board));
+  }
+
+  public static ShowDown create(List<Player> players,
+      Function<Player, IncrementalEvaluation> evaluations) {
+    return new ShowDown(players, evaluations);
+  }
+
+  private ShowDown(List<Player> players, Function<Player, IncrementalEvaluation> evaluations) {
+    this.evaluationMap = createEvaluationMap(players, evaluations);
+    this.ranking = rankInOnePass(players);
   }
 
   public Combination combination(Player player) {
-    final boolean mapContainsPlayer = combinationMap.containsKey(player);
+    final boolean mapContainsPlayer = evaluationMap.containsKey(player);
     if (mapContainsPlayer) {
-      return combinationMap.get(player);
+      return evaluationMap.get(player).combination();
     } else {
       throw new InvalidPlayerException(
           "Queried player does not take part in show down," +
-              " expected: " + combinationMap.keySet() + ", got: " + player
+              " expected: " + evaluationMap.keySet() + ", got: " + player
       );
     }
   }
 
   public Player winner() {
-    return winner;
+    return winners().getFirst();
   }
 
-  private Map<Player, Combination> createCombinationMap(List<Player> players) {
-    return players.stream().collect(Collectors.toMap(p -> p, this::createCombinationFor));
+  public List<Player> winners() {
+    return ranking.getFirst();
   }
 
-  private Combination createCombinationFor(Player player) {
-    final var allCards = combineBothCardSources(
-        holeCards.of(player),
-        communityCardsProvider.cardsDealt()
-    );
-    return Combination.of(allCards);
+  public boolean isSplit() {
+    return winners().size() > 1;
   }
 
-  private List<Card> combineBothCardSources(List<Card> first, Collection<Card> second) {
-    return Stream.concat(first.stream(), second.stream())
-        .toList();
+  public List<List<Player>> ranking() {
+    return ranking;
   }
 
-  private Player queryWinner() {
-    return combinationMap.entrySet().stream()
-        .reduce(this::reduceByValue)
-        .orElseThrow()
-        .getKey();
+  private Map<Player, IncrementalEvaluation> createEvaluationMap(List<Player> players,
+      Function<Player, IncrementalEvaluation> evaluations) {
+    final Map<Player, IncrementalEvaluation> mutableMap = new LinkedHashMap<>();
+    players.forEach(p -> mutableMap.put(p, evaluations.apply(p)));
+    return Collections.unmodifiableMap(mutableMap);
   }
 
-  private Map.Entry<Player, Combination> reduceByValue(Map.Entry<Player, Combination> first,
-      Map.Entry<Player, Combination> second) {
-    return first.getValue().over(second.getValue()) ? first : second;
+  // sorts seats by descending rank, then cuts the order into groups of equal rank
+  private List<List<Player>> rankInOnePass(List<Player> players) {
+    final int numberOfPlayers = players.size();
+    final long[] keys = new long[numberOfPlayers];
+    for (int seat = 0; seat < numberOfPlayers; seat++) {
+      final long rank = evaluationMap.get(players.get(seat)).rank();
+      keys[seat] = -rank << Integer.SIZE | seat;
+    }
+    Arrays.sort(keys);
+    final List<List<Player>> groups = new ArrayList<>();
+    List<Player> group = new ArrayList<>();
+    for (int i = 0; i < numberOfPlayers; i++) {
+      final boolean rankChanges = i > 0 && keys[i] >>> Integer.SIZE != keys[i - 1] >>> Integer.SIZE;
+      if (rankChanges) {
+        groups.add(List.copyOf(group));
+        group = new ArrayList<>();
+      }
+      group.add(players.get((int) keys[i]));
+    }
+    groups.add(List.copyOf(group));
+    return List.copyOf(groups);
   }
 
   public static class InvalidPlayerException extends RuntimeException {
@@ -1,19 +1,23 @@
 package hwr.oop.poker.application.domain;
 
 import hwr.oop.poker.application.domain.betting.Play;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.function.Function;
 
 public class Stacks implements Function<Player, ChipValue> {
 
-  private final Map<Player, ChipValue> map;
+  // chips[seat] is the stack of seats.at(seat)
+  private final Seats seats;
+  private final long[] chips;
 
-  private Stacks(Map<Player, ChipValue> map) {
-    assert !map.entrySet().isEmpty() && !map.containsKey(null);
-    this.map = map;
+  private Stacks(Seats seats, long[] chips) {
+    assert seats.size() > 0 && seats.size() == chips.length;
+    this.seats = seats;
+    this.chips = chips;
   }
 
   public static StacksBuilder newBuilder() {
@@ -34,67 +38,113 @@ public class Stacks implements Function<Player, ChipValue> {
       return false;
     }
     Stacks stacks = (Stacks) o;
-    return Objects.equals(map, stacks.map);
+    if (seats.equals(stacks.seats)) {
+      return Arrays.equals(chips, stacks.chips);
+    }
+    return seats.size() == stacks.seats.size() && hasSameStacksAs(stacks);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(map);
+    // independent of the seat order, just like equals
+    int hash = 0;
+    for (int seat = 0; seat < chips.length; seat++) {
+      hash += seats.at(seat).hashCode() ^ Long.hashCode(chips[seat]);
+    }
+    return hash;
   }
 
   @Override
   public String toString() {
-    return "Stacks{" +
-        map.keySet().stream()
-            .map(k -> k.toString() + "=" + map.get(k).toString())
-            .reduce((a, b) -> a + ", " + b).orElseThrow() +
-        '}';
+    final var joiner = new StringJoiner(", ", "Stacks{", "}");
+    for (int seat = 0; seat < chips.length; seat++) {
+      joiner.add(seats.at(seat) + "=" + ChipValue.of(chips[seat]));
+    }
+    return joiner.toString();
   }
 
   public ChipValue ofPlayer(Player player) {
-    return map.get(player);
+    final int seat = seats.indexOf(player);
+    return seat == Seats.NO_SEAT ? null : ChipValue.of(chips[seat]);
+  }
+
+  public long chipsOf(Player player) {
+    return chips[seatOf(player)];
+  }
+
+  public long chipsAt(int seat) {
+    return chips[seat];
+  }
+
+  public Seats seats() {
+    return seats;
   }
 
   public Stacks apply(Play play) {
-    final Player player = play.player();
-    if (map.containsKey(player)) {
-      final var newChipValue = stackSizeApplied(play);
-      final var updatedImmutableMap = mapWithPlayApplied(player, newChipValue);
-      return new Stacks(updatedImmutableMap);
-    } else {
-      final var availablePlayers = map.keySet();
-      throw new InvalidPlayerForStackException("Tried to apply play for " + player
-          + ", expected any of " + availablePlayers);
+    final int seat = seatOf(play.player());
+    final long[] updatedChips = chips.clone();
+    updatedChips[seat] = stackSizeApplied(seat, chips[seat], play.chipValue());
+    return new Stacks(seats, updatedChips);
+  }
+
+  public long remainingAfter(Play play, long alreadyPlayed) {
+    final int seat = seatOf(play.player());
+    return stackSizeApplied(seat, chips[seat] - alreadyPlayed, play.chipValue());
+  }
+
+  public Stacks minus(Function<Player, ChipValue> chipsPlayed) {
+    final long[] updatedChips = chips.clone();
+    for (int seat = 0; seat < chips.length; seat++) {
+      updatedChips[seat] -= chipsPlayed.apply(seats.at(seat)).value();
+    }
+    return new Stacks(seats, updatedChips);
+  }
+
+  Stacks plus(Seats chipSeats, long[] chipsWon) {
+    final boolean sameSeats = seats.equals(chipSeats);
+    final long[] updatedChips = chips.clone();
+    for (int seat = 0; seat < chipsWon.length; seat++) {
+      final int stackSeat = sameSeats ? seat : seatOf(chipSeats.at(seat));
+      updatedChips[stackSeat] += chipsWon[seat];
+    }
+    return new Stacks(seats, updatedChips);
+  }
+
+  private boolean hasSameStacksAs(Stacks other) {
+    for (int seat = 0; seat < chips.length; seat++) {
+      final int otherSeat = other.seats.indexOf(seats.at(seat));
+      if (otherSeat == Seats.NO_SEAT || other.chips[otherSeat] != chips[seat]) {
+        return false;
+      }
     }
+    return true;
   }
 
-  private Map<Player, ChipValue> mapWithPlayApplied(Player player, ChipValue newChipValue) {
-    final var mutableMap = new HashMap<>(map);
-    mutableMap.put(player, newChipValue);
-    return Collections.unmodifiableMap(mutableMap);
+  private int seatOf(Player player) {
+    final int seat = seats.indexOf(player);
+    if (seat == Seats.NO_SEAT) {
+      throw new InvalidPlayerForStackException("Tried to apply play for " + player
+          + ", expected any of " + seats.players());
+    }
+    return seat;
   }
 
-  private ChipValue stackSizeApplied(Play play) {
-    final var player = play.player();
-    final var stack = map.get(player);
-    final var chipsPlayed = play.chipValue();
-    final ChipValue newChipValue;
-    try {
-      newChipValue = stack.minus(chipsPlayed);
-    } catch (ChipValue.NegativeChipCountException e) {
-      final String message = player.toString() + " has only " + stack + "," +
-          " but tried to play " + chipsPlayed.toString();
-      throw new InvalidPlayForStackException(message, e);
+  private long stackSizeApplied(int seat, long stack, ChipValue chipsPlayed) {
+    final long newStack = stack - chipsPlayed.value();
+    if (newStack < 0) {
+      final String message = seats.at(seat).toString() + " has only " + ChipValue.of(stack) + ","
+          + " but tried to play " + chipsPlayed.toString();
+      throw new InvalidPlayForStackException(message);
     }
-    return newChipValue;
+    return newStack;
   }
 
   public static class StacksBuilder {
 
-    private final Map<Player, ChipValue> stacks;
+    private final Map<Player, Long> stacks;
 
     private StacksBuilder() {
-      this.stacks = new HashMap<>();
+      this.stacks = new LinkedHashMap<>();
     }
 
     public ContextStackBuilder of(Player player) {
@@ -102,13 +152,15 @@ public class Stacks implements Function<Player, ChipValue> {
     }
 
     private StacksBuilder player(Player player, ChipValue stackSize) {
-      stacks.put(player, stackSize);
+      stacks.put(player, stackSize.value());
       return this;
     }
 
+    // players are seated in the order in which their stacks were added
     public Stacks build() {
-      final var unmodifiableMap = Collections.unmodifiableMap(stacks);
-      return new Stacks(unmodifiableMap);
+      final var seats = Seats.of(List.copyOf(stacks.keySet()));
+      final long[] chips = stacks.values().stream().mapToLong(Long::longValue).toArray();
+      return new Stacks(seats, chips);
     }
   }
 
@@ -133,6 +185,10 @@ public class Stacks implements Function<Player, ChipValue> {
     public InvalidPlayForStackException(String message, Throwable cause) {
       super(message, cause);
     }
+
+    public InvalidPlayForStackException(String message) {
+      super(message);
+    }
   }
 
   public static class InvalidPlayerForStackException extends RuntimeException {
@@ -2,21 +2,41 @@ package hwr.oop.poker.application.domain.betting;
 
 import hwr.oop.poker.application.domain.ChipValue;
 import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Seats;
 import hwr.oop.poker.application.domain.Stacks;
 import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 public class BettingRound {
 
+  private static final int MAX_PLAYERS = Long.SIZE;
+
   private final List<Player> players;
-  private final Stacks stacks;
-  private final List<Play> plays;
-  private final Player turn;
+  private final Seats seats;
+  // stacks at the start of the round, the current ones are derived from the contributions
+  private final Stacks initialStacks;
+  private final PlayLog plays;
+  private final int turn;
+  // running aggregates, updated by every play in constant time; only the contributions are
+  // copied per play, an O(players) clone of at most a few dozen longs that keeps every round
+  // immutable and lock-free, where shared deltas would make each read walk or reroot them
+  private final long[] contributions;
+  private final long foldedSeats;
+  private final long seatsThatHavePlayed;
+  // seats without chips behind, they stay in the hand but do not act anymore
+  private final long allInSeats;
+  private final boolean onlyChecks;
+  private final Play lastPotSizeIncreasingPlay;
+  private final Play lastTargetValueIncreasingPlay;
+  private final long target;
+  private final long seatsOnTarget;
+  private final long pot;
+  private final boolean finished;
 
   public static BettingRound create(Stacks stacks, Player... players) {
     return create(stacks, Arrays.asList(players));
@@ -27,17 +47,57 @@ public class BettingRound {
   }
 
   public BettingRound(Stacks stacks, List<Player> players) {
-    this.players = players;
-    this.stacks = stacks;
-    this.plays = new ArrayList<>();
-    this.turn = players.getFirst();
+    this(stacks, players, false);
   }
 
-  private BettingRound(Stacks stacks, List<Player> players, Stream<Play> plays, Player turn) {
-    this.stacks = stacks;
+  private BettingRound(Stacks stacks, List<Player> players, boolean closed) {
+    if (players.size() > MAX_PLAYERS) {
+      throw new IllegalArgumentException(
+          "At most " + MAX_PLAYERS + " players per round, got " + players.size());
+    }
     this.players = players;
-    this.turn = turn;
-    this.plays = plays.toList();
+    this.seats = Seats.of(players);
+    this.initialStacks = stacks;
+    this.plays = PlayLog.empty();
+    this.contributions = new long[players.size()];
+    this.foldedSeats = 0L;
+    this.seatsThatHavePlayed = 0L;
+    this.allInSeats = seatsWithoutChips(stacks, players);
+    this.turn = hasNoChipsLeft(0) ? next(0) : 0;
+    this.onlyChecks = true;
+    this.lastPotSizeIncreasingPlay = null;
+    this.lastTargetValueIncreasingPlay = null;
+    this.target = 0L;
+    this.seatsOnTarget = allSeats();
+    this.pot = 0L;
+    this.finished = closed || players.size() < 2 || queryFinished();
+  }
+
+  private BettingRound(BettingRound previous, Play play, long remainingStack) {
+    final int seat = previous.turn;
+    final long seatBit = 1L << seat;
+    final long previousContribution = previous.contributions[seat];
+    final long contribution = previousContribution + play.chipValue().value();
+    this.players = previous.players;
+    this.seats = previous.seats;
+    this.initialStacks = previous.initialStacks;
+    this.plays = previous.plays.append(play);
+    this.contributions = previous.contributions.clone();
+    this.contributions[seat] = contribution;
+    this.foldedSeats = play.isFold() ? previous.foldedSeats | seatBit : previous.foldedSeats;
+    this.seatsThatHavePlayed = previous.seatsThatHavePlayed | seatBit;
+    this.allInSeats = remainingStack == 0 && !play.isFold()
+        ? previous.allInSeats | seatBit : previous.allInSeats;
+    this.turn = next(seat);
+    this.onlyChecks = previous.onlyChecks && play.isCheck();
+    this.lastPotSizeIncreasingPlay = play.increasedChipsInPot()
+        ? play : previous.lastPotSizeIncreasingPlay;
+    this.lastTargetValueIncreasingPlay = play.hasIncreasedTargetValue()
+        ? play : previous.lastTargetValueIncreasingPlay;
+    this.target = Math.max(previous.target, contribution);
+    this.seatsOnTarget = seatsOnTarget(previous, play, contribution);
+    this.pot = previous.pot + play.chipValue().value();
+    this.finished = queryFinished();
   }
 
   public static BettingRound createPreFlop(Stacks stacks, BlindConfiguration blindConfig,
@@ -45,9 +105,16 @@ public class BettingRound {
     return new BettingRound(stacks, players).apply(blindConfig);
   }
 
+  // stands in for a street that a restored hand settled before its snapshot, it has no plays
+  // and accepts none
+  public static BettingRound closed(Stacks stacks, List<Player> players) {
+    return new BettingRound(stacks, players, true);
+  }
+
   private BettingRound apply(BlindConfiguration blindConfig) {
-    final var sbApplied = nextState(Play.smallBlind(this.turn, blindConfig.smallBlind()));
-    return sbApplied.nextState(Play.bigBlind(sbApplied.turn, blindConfig.bigBlind()));
+    final var sbApplied = nextState(Play.smallBlind(players.get(turn), blindConfig.smallBlind()));
+    return sbApplied.nextState(
+        Play.bigBlind(sbApplied.players.get(sbApplied.turn), blindConfig.bigBlind()));
   }
 
   public RoundInContext with(Player player) {
@@ -55,173 +122,215 @@ public class BettingRound {
   }
 
   public boolean isFinished() {
-    final Optional<Play> optional = lastTargetValueIncreasingPlay();
-    if (optional.isPresent()) {
-      final var increasingPlay = optional.get();
-      if (increasingPlay.isBigBlind()) {
-        boolean stuff;
-        final Collection<Player> remainingPlayers = remainingPlayers();
-        final Player bigBlindPlayer = increasingPlay.player();
-        if (remainingPlayers.size() == 1) {
-          stuff = true;
-        } else {
-          final Play lastPlay = lastPlay().orElseThrow();
-          stuff = lastPlay.player().equals(bigBlindPlayer) && lastPlay.isCheck();
-        }
-        return stuff;
-      }
-    }
-
-    if (allPlayersHavePlayed() && allPlaysAreChecks()) {
-      return true;
-    }
-    if (isOnlyOnePlayerRemaining()) {
-      return true;
-    }
-    final List<ChipValue> distinctValues = players.stream()
-        .filter(player -> playersThatHaveFolded().noneMatch(p -> p.equals(player)))
-        .map(this::chipsPutIntoPotBy)
-        .distinct()
-        .toList();
-    final int numberOfDistinctValues = distinctValues.size();
-    final boolean containsZero = distinctValues.contains(ChipValue.zero());
-    return numberOfDistinctValues == 1 && !containsZero;
+    return finished;
   }
 
   public Optional<Player> turn() {
     if (isFinished()) {
       return Optional.empty();
     } else {
-      return Optional.of(turn);
+      return Optional.of(players.get(turn));
+    }
+  }
+
+  // what the player to act may do, derived from the aggregates without trying any play
+  public LegalActions legalActions() {
+    if (finished) {
+      return LegalActions.none();
     }
+    final Player player = players.get(turn);
+    final long contribution = contributions[turn];
+    final long remainingChips = initialStacks.chipsOf(player) - contribution;
+    if (lastPotSizeIncreasingPlay == null) {
+      return LegalActions.facingNoBet(remainingChips);
+    }
+    final Play targetPlay = lastTargetValueIncreasingPlay;
+    final long currentTarget = targetPlay.totalChipValue().value();
+    final boolean bigBlindOption = targetPlay.isBigBlind() && targetPlay.playedBy(player);
+    return LegalActions.facingBet(currentTarget - contribution, remainingChips,
+        ChipValue.minRaise(currentTarget), contribution + remainingChips, bigBlindOption);
   }
 
   public Optional<Play> lastPlay() {
     if (plays.isEmpty()) {
       return Optional.empty();
     } else {
-      final Play lastPlay = plays.getLast();
+      final Play lastPlay = plays.last();
       return Optional.of(lastPlay);
     }
   }
 
   public Optional<Play> lastPotSizeIncreasingPlay() {
-    return plays.stream()
-        .filter(Play::increasedChipsInPot)
-        .reduce((a, b) -> b);
+    return Optional.ofNullable(lastPotSizeIncreasingPlay);
   }
 
   public Optional<Play> lastTargetValueIncreasingPlay() {
-    return plays.stream()
-        .filter(Play::hasIncreasedTargetValue)
-        .reduce((a, b) -> b);
+    return Optional.ofNullable(lastTargetValueIncreasingPlay);
   }
 
   public ChipValue pot() {
-    final var sumOfAllPlays = plays.stream()
-        .map(Play::chipValue)
-        .map(ChipValue::value)
-        .reduce(Long::sum)
-        .orElse(0L);
-    return ChipValue.of(sumOfAllPlays);
+    return ChipValue.of(pot);
   }
 
   public ChipValue chipsPutIntoPotBy(Player player) {
-    return plays.stream()
-        .filter(play -> play.playedBy(player))
-        .map(Play::chipValue)
-        .reduce(ChipValue::plus)
-        .orElse(ChipValue.zero());
+    return ChipValue.of(contributionOf(player));
   }
 
   public BettingRound nextState(Play play) {
     assertCorrectPlayer(play);
-    final var updatedStacks = stacks.apply(play);
-    final var playsIncludingNewOne = Stream.concat(plays.stream(), Stream.of(play));
-    return new BettingRound(
-        updatedStacks, players,
-        playsIncludingNewOne,
-        next(turn)
-    );
+    final long remainingStack = initialStacks.remainingAfter(play, contributions[turn]);
+    return new BettingRound(this, play, remainingStack);
   }
 
   public ChipValue remainingChips(Player player) {
-    return stacks.ofPlayer(player);
+    return ChipValue.of(remainingChipsOf(player));
+  }
+
+  long contributionOf(Player player) {
+    final int seat = seats.indexOf(player);
+    return seat == Seats.NO_SEAT ? 0L : contributions[seat];
+  }
+
+  long remainingChipsOf(Player player) {
+    return initialStacks.chipsOf(player) - contributionOf(player);
+  }
+
+  // null if absent, RoundInContext asks for these on every play
+  Play potSizeIncreasingPlayOrNull() {
+    return lastPotSizeIncreasingPlay;
+  }
+
+  Play targetValueIncreasingPlayOrNull() {
+    return lastTargetValueIncreasingPlay;
   }
 
   public Stacks stacks() {
-    return stacks;
+    return initialStacks.minus(this::chipsPutIntoPotBy);
+  }
+
+  public Stacks startingStacks() {
+    return initialStacks;
+  }
+
+  public List<Player> players() {
+    return players;
   }
 
   public List<Player> remainingPlayers() {
-    return players.stream()
-        .filter(this::hasPlayerNotFolded)
-        .toList();
+    final List<Player> remaining = new ArrayList<>(numberOfRemainingPlayers());
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (!hasFolded(seat)) {
+        remaining.add(players.get(seat));
+      }
+    }
+    return Collections.unmodifiableList(remaining);
   }
 
-  private boolean isOnlyOnePlayerRemaining() {
-    final long numberOfPlayersThatHaveNotFolded = players.stream()
-        .filter(player -> playersThatHaveFolded().noneMatch(p -> p.equals(player)))
-        .count();
-    return numberOfPlayersThatHaveNotFolded < 2;
+  private boolean queryFinished() {
+    if (lastTargetValueIncreasingPlay != null && lastTargetValueIncreasingPlay.isBigBlind()
+        && !hasNoChipsLeft(seats.indexOf(lastTargetValueIncreasingPlay.player()))) {
+      // the big blind has the option to raise, even if everybody else just called
+      final Player bigBlindPlayer = lastTargetValueIncreasingPlay.player();
+      final Play lastPlay = plays.last();
+      return isOnlyOnePlayerRemaining()
+          || lastPlay.playedBy(bigBlindPlayer) && lastPlay.isCheck();
+    }
+    if (allPlayersHavePlayed() && onlyChecks) {
+      return true;
+    }
+    if (isOnlyOnePlayerRemaining()) {
+      return true;
+    }
+    // all-in seats below the target are settled, their chips are covered by side pots
+    final long seatsToAct = seatsThatCanAct();
+    final boolean allOnTarget = (seatsToAct & ~seatsOnTarget) == 0;
+    return allOnTarget && (target > 0 || Long.bitCount(seatsToAct) < 2);
+  }
+
+  private static long seatsOnTarget(BettingRound previous, Play play, long contribution) {
+    final long seatBit = 1L << previous.turn;
+    if (contribution > previous.target) {
+      return seatBit;
+    } else if (play.isFold()) {
+      return previous.seatsOnTarget & ~seatBit;
+    } else if (contribution == previous.target) {
+      return previous.seatsOnTarget | seatBit;
+    } else {
+      return previous.seatsOnTarget;
+    }
+  }
+
+  private static long seatsWithoutChips(Stacks stacks, List<Player> players) {
+    long seatsWithoutChips = 0L;
+    for (int seat = 0; seat < players.size(); seat++) {
+      final ChipValue stack = stacks.ofPlayer(players.get(seat));
+      if (stack != null && stack.value() == 0) {
+        seatsWithoutChips |= 1L << seat;
+      }
+    }
+    return seatsWithoutChips;
   }
 
-  private Stream<Player> playersThatHaveFolded() {
-    return plays.stream()
-        .filter(p -> p.type() == Play.Type.FOLD)
-        .map(Play::player);
+  private int numberOfRemainingPlayers() {
+    return players.size() - Long.bitCount(foldedSeats);
   }
 
-  private boolean allPlaysAreChecks() {
-    return plays.stream().allMatch(Play::isCheck);
+  private boolean isOnlyOnePlayerRemaining() {
+    return numberOfRemainingPlayers() < 2;
   }
 
   private boolean allPlayersHavePlayed() {
-    return players.stream().allMatch(
-        player -> plays.stream()
-            .anyMatch(play -> play.playedBy(player))
-    );
+    return (seatsThatCanAct() & ~seatsThatHavePlayed) == 0;
+  }
+
+  private long seatsThatCanAct() {
+    return allSeats() & ~foldedSeats & ~allInSeats;
+  }
+
+  private long allSeats() {
+    return players.size() == MAX_PLAYERS ? -1L : (1L << players.size()) - 1;
+  }
+
+  private boolean hasFolded(int seat) {
+    return (foldedSeats & 1L << seat) != 0;
   }
 
+  private boolean hasNoChipsLeft(int seat) {
+    return (allInSeats & 1L << seat) != 0;
+  }
 
   private void assertCorrectPlayer(Play play) {
-    final boolean correctPlayer = play.playedBy(turn);
+    final Player player = players.get(turn);
+    final boolean correctPlayer = play.playedBy(player);
     if (!correctPlayer) {
       throw new InvalidPlayOnStateException(
           "Cannot play " + play +
               ", wrong player: " + play.player() +
-              ", next player is: " + turn);
+              ", next player is: " + player);
     }
   }
 
-  private Player next(Player current) {
-    final Player candidate = nextCandidatePlayer(current);
-    final boolean candidateFolded = playerHasFolded(candidate);
-    if (candidateFolded) {
-      return next(candidate);
-    } else {
-      return candidate;
+  private int next(int current) {
+    int candidate = current;
+    for (int i = 0; i < players.size(); i++) {
+      candidate = (candidate + 1) % players.size();
+      if (!hasFolded(candidate) && !hasNoChipsLeft(candidate)) {
+        return candidate;
+      }
     }
+    return current;
   }
 
-  private Player nextCandidatePlayer(Player current) {
-    final int indexOfCandidatePlayer =
-        (players.indexOf(current) + 1) % players.size();
-    return players.get(indexOfCandidatePlayer);
-  }
-
-  private boolean playerHasFolded(Player candidate) {
-    return plays.stream()
-        .filter(Play::isFold)
-        .anyMatch(play -> play.playedBy(candidate));
+  public Stream<Play> plays() {
+    return plays.stream();
   }
 
-  private boolean hasPlayerNotFolded(Player player) {
-    return plays.stream().noneMatch(play -> play.playedBy(player) && play.isFold());
+  public int numberOfPlays() {
+    return plays.size();
   }
 
-  public Stream<Play> plays() {
-    return plays.stream();
+  public List<Play> playsSince(BettingRound earlier) {
+    return plays.since(earlier.plays);
   }
 
   public static class InvalidPlayOnStateException extends RuntimeException {
@@ -0,0 +1,126 @@
+package hwr.oop.poker.application.domain.betting;
+
+import hwr.oop.poker.application.domain.ChipValue;
+import java.util.EnumSet;
+import java.util.Set;
+
+public final class LegalActions {
+
+  private static final long MINIMUM_BET = 1L;
+  private static final LegalActions NONE = new LegalActions(0, 0L, 0L, 0L, false);
+
+  // one bit per Play.Type ordinal
+  private final int types;
+  private final long callAmount;
+  // bounds of the value passed to bet or raiseTo, the maximum is the all-in; without a legal
+  // bet or raise both are the all-in
+  private final long minimum;
+  private final long maximum;
+  private final boolean allInPossible;
+
+  static LegalActions none() {
+    return NONE;
+  }
+
+  static LegalActions facingNoBet(long remainingChips) {
+    int types = bit(Play.Type.FOLD) | bit(Play.Type.CHECK);
+    if (remainingChips >= MINIMUM_BET) {
+      types |= bit(Play.Type.BET);
+    }
+    return new LegalActions(types, 0L, Math.min(MINIMUM_BET, remainingChips), remainingChips,
+        remainingChips > 0);
+  }
+
+  static LegalActions facingBet(long callAmount, long remainingChips, long minimumRaise,
+      long allChips, boolean mayCheck) {
+    int types = bit(Play.Type.FOLD);
+    if (mayCheck) {
+      types |= bit(Play.Type.CHECK);
+    }
+    if (callAmount > 0 && callAmount <= remainingChips) {
+      types |= bit(Play.Type.CALL);
+    }
+    if (minimumRaise <= allChips) {
+      types |= bit(Play.Type.RAISE);
+    }
+    return new LegalActions(types, callAmount, Math.min(minimumRaise, allChips), allChips,
+        remainingChips > 0);
+  }
+
+  private LegalActions(int types, long callAmount, long minimum, long maximum,
+      boolean allInPossible) {
+    this.types = types;
+    this.callAmount = callAmount;
+    this.minimum = minimum;
+    this.maximum = maximum;
+    this.allInPossible = allInPossible;
+  }
+
+  public boolean isAllowed(Play.Type type) {
+    return (types & bit(type)) != 0;
+  }
+
+  public boolean canFold() {
+    return isAllowed(Play.Type.FOLD);
+  }
+
+  public boolean canCheck() {
+    return isAllowed(Play.Type.CHECK);
+  }
+
+  public boolean canCall() {
+    return isAllowed(Play.Type.CALL);
+  }
+
+  public boolean canBet() {
+    return isAllowed(Play.Type.BET);
+  }
+
+  public boolean canRaise() {
+    return isAllowed(Play.Type.RAISE);
+  }
+
+  public boolean canGoAllIn() {
+    return allInPossible;
+  }
+
+  public boolean isEmpty() {
+    return types == 0;
+  }
+
+  public Set<Play.Type> types() {
+    final Set<Play.Type> allowed = EnumSet.noneOf(Play.Type.class);
+    for (Play.Type type : Play.Type.values()) {
+      if (isAllowed(type)) {
+        allowed.add(type);
+      }
+    }
+    return allowed;
+  }
+
+  public ChipValue callAmount() {
+    return ChipValue.of(callAmount);
+  }
+
+  public ChipValue minimum() {
+    return ChipValue.of(minimum);
+  }
+
+  public ChipValue maximum() {
+    return ChipValue.of(maximum);
+  }
+
+  private static int bit(Play.Type type) {
+    return 1 << type.ordinal();
+  }
+
+  @Override
+  public String toString() {
+    return "LegalActions{" + types() +
+        ", call=" + callAmount +
+        ", minimum=" + minimum +
+        ", maximum=" + maximum +
+        ", allIn=" + allInPossible +
+        '}';
+  }
+}
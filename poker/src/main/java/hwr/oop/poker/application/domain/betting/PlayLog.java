@@ -0,0 +1,72 @@
+package hwr.oop.poker.application.domain.betting;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+// immutable cons list, appending shares all earlier plays with the previous log
+final class PlayLog {
+
+  private static final PlayLog EMPTY = new PlayLog(null, null, 0);
+
+  private final PlayLog previous;
+  private final Play last;
+  private final int size;
+
+  static PlayLog empty() {
+    return EMPTY;
+  }
+
+  private PlayLog(PlayLog previous, Play last, int size) {
+    this.previous = previous;
+    this.last = last;
+    this.size = size;
+  }
+
+  PlayLog append(Play play) {
+    return new PlayLog(this, play, size + 1);
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  Play last() {
+    return last;
+  }
+
+  // walks back only over the plays appended since the earlier log; a single play, as after
+  // every action of a hand, needs no array, longer runs copy the plays they return
+  List<Play> since(PlayLog earlier) {
+    final int count = size - earlier.size;
+    if (count == 1 && previous == earlier) {
+      return List.of(last);
+    }
+    final Play[] newer = new Play[Math.max(count, 0)];
+    PlayLog current = this;
+    for (int i = count - 1; i >= 0; i--) {
+      newer[i] = current.last;
+      current = current.previous;
+    }
+    if (current != earlier) {
+      throw new IllegalArgumentException("Play log does not continue the earlier one");
+    }
+    return List.of(newer);
+  }
+
+  // copies the whole log into an array to stream it in order, meant for persisting and
+  // comparing hands, not for the per-action path
+  Stream<Play> stream() {
+    final Play[] inOrder = new Play[size];
+    PlayLog current = this;
+    for (int i = size - 1; i >= 0; i--) {
+      inOrder[i] = current.last;
+      current = current.previous;
+    }
+    return Arrays.stream(inOrder);
+  }
+}
@@ -3,7 +3,6 @@ package hwr.oop.poker.application.domain.betting.positions;
 import hwr.oop.poker.application.domain.Deck;
 import hwr.oop.poker.application.domain.cards.CommunityCards;
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
-import java.util.Objects;
 import java.util.Optional;
 
 class Flop implements RoundPosition {
@@ -25,6 +24,11 @@ class Flop implements RoundPosition {
         .noTurnNoRiver();
   }
 
+  @Override
+  public boolean isDealtIn(CommunityCardsProvider currentCards) {
+    return currentCards.flop().isPresent();
+  }
+
   @Override
   public Optional<RoundPosition> nextPosition() {
     return Optional.of(RoundPosition.TURN);
@@ -49,6 +53,6 @@ class Flop implements RoundPosition {
 
   @Override
   public int hashCode() {
-    return Objects.hash(position());
+    return position();
   }
 }
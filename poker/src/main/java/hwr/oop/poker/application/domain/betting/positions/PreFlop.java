@@ -3,7 +3,6 @@ package hwr.oop.poker.application.domain.betting.positions;
 import hwr.oop.poker.application.domain.Deck;
 import hwr.oop.poker.application.domain.cards.CommunityCards;
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
-import java.util.Objects;
 import java.util.Optional;
 
 class PreFlop implements RoundPosition {
@@ -23,6 +22,11 @@ class PreFlop implements RoundPosition {
     return CommunityCards.empty();
   }
 
+  @Override
+  public boolean isDealtIn(CommunityCardsProvider currentCards) {
+    return true;
+  }
+
   @Override
   public Optional<RoundPosition> nextPosition() {
     return Optional.of(RoundPosition.FLOP);
@@ -46,6 +50,6 @@ class PreFlop implements RoundPosition {
 
   @Override
   public int hashCode() {
-    return Objects.hash(position());
+    return position();
   }
 }
@@ -3,7 +3,6 @@ package hwr.oop.poker.application.domain.betting.positions;
 import hwr.oop.poker.application.domain.Deck;
 import hwr.oop.poker.application.domain.cards.CommunityCards;
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
-import java.util.Objects;
 import java.util.Optional;
 
 class River implements RoundPosition {
@@ -26,6 +25,11 @@ class River implements RoundPosition {
         .river(deck.draw());
   }
 
+  @Override
+  public boolean isDealtIn(CommunityCardsProvider currentCards) {
+    return currentCards.river().isPresent();
+  }
+
   @Override
   public Optional<RoundPosition> nextPosition() {
     return Optional.empty();
@@ -49,6 +53,6 @@ class River implements RoundPosition {
 
   @Override
   public int hashCode() {
-    return Objects.hash(position());
+    return position();
   }
 }
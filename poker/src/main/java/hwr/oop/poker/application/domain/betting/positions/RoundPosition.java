@@ -12,17 +12,31 @@ public interface RoundPosition {
   RoundPosition FLOP = new Flop();
   RoundPosition TURN = new Turn();
   RoundPosition RIVER = new River();
+  int NUMBER_OF_POSITIONS = 4;
 
   static Stream<RoundPosition> all() {
     return Stream.of(PRE_FLOP, FLOP, TURN, RIVER);
   }
 
+  static RoundPosition of(int position) {
+    return switch (position) {
+      case 0 -> PRE_FLOP;
+      case 1 -> FLOP;
+      case 2 -> TURN;
+      case 3 -> RIVER;
+      default -> throw new IllegalArgumentException("No round position " + position);
+    };
+  }
+
+  // dense ordinal, 0 (pre-flop) to 3 (river)
   int position();
 
   boolean shouldCauseBurn();
 
   CommunityCardsProvider buildCardsFor(Deck deck, CommunityCardsProvider currentCards);
 
+  boolean isDealtIn(CommunityCardsProvider currentCards);
+
   Optional<RoundPosition> nextPosition();
 
   Optional<RoundPosition> previous();
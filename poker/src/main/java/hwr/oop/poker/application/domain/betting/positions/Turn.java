@@ -3,7 +3,6 @@ package hwr.oop.poker.application.domain.betting.positions;
 import hwr.oop.poker.application.domain.Deck;
 import hwr.oop.poker.application.domain.cards.CommunityCards;
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
-import java.util.Objects;
 import java.util.Optional;
 
 class Turn implements RoundPosition {
@@ -26,6 +25,11 @@ class Turn implements RoundPosition {
         .noRiver();
   }
 
+  @Override
+  public boolean isDealtIn(CommunityCardsProvider currentCards) {
+    return currentCards.turn().isPresent();
+  }
+
   @Override
   public Optional<RoundPosition> nextPosition() {
     return Optional.of(RoundPosition.RIVER);
@@ -49,6 +53,6 @@ class Turn implements RoundPosition {
 
   @Override
   public int hashCode() {
-    return Objects.hash(position());
+    return position();
   }
 }
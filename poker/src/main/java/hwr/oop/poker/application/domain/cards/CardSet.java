@@ -0,0 +1,137 @@
+package hwr.oop.poker.application.domain.cards;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Color;
+import hwr.oop.poker.application.domain.Symbol;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public record CardSet(long mask) implements Iterable<Card> {
+
+  private static final int SYMBOLS_PER_COLOR = Symbol.values().length;
+  private static final long ALL_CARDS = (1L << Card.NUMBER_OF_CARDS) - 1;
+  private static final long COLOR_MASK = (1L << SYMBOLS_PER_COLOR) - 1;
+  private static final CardSet EMPTY = new CardSet(0L);
+
+  public CardSet {
+    if ((mask & ~ALL_CARDS) != 0) {
+      throw new IllegalArgumentException("CardSet mask may only use the lowest "
+          + Card.NUMBER_OF_CARDS + " bits, got: " + Long.toHexString(mask));
+    }
+  }
+
+  public static CardSet empty() {
+    return EMPTY;
+  }
+
+  public static CardSet of(Card... cards) {
+    return of(List.of(cards));
+  }
+
+  public static CardSet of(Collection<Card> cards) {
+    long mask = 0L;
+    for (Card card : cards) {
+      mask |= bit(card);
+    }
+    return new CardSet(mask);
+  }
+
+  public static CardSet fromMask(long mask) {
+    return new CardSet(mask);
+  }
+
+  public CardSet with(Card card) {
+    return new CardSet(mask | bit(card));
+  }
+
+  public CardSet union(CardSet other) {
+    return new CardSet(mask | other.mask);
+  }
+
+  public CardSet without(CardSet other) {
+    return new CardSet(mask & ~other.mask);
+  }
+
+  public boolean contains(Card card) {
+    return (mask & bit(card)) != 0;
+  }
+
+  public boolean containsAll(CardSet other) {
+    return (mask & other.mask) == other.mask;
+  }
+
+  public boolean intersects(CardSet other) {
+    return (mask & other.mask) != 0;
+  }
+
+  public int size() {
+    return Long.bitCount(mask);
+  }
+
+  public boolean isEmpty() {
+    return mask == 0;
+  }
+
+  public int symbolsOf(Color color) {
+    return (int) (mask >>> (color.ordinal() * SYMBOLS_PER_COLOR) & COLOR_MASK);
+  }
+
+  public int count(Color color) {
+    return Integer.bitCount(symbolsOf(color));
+  }
+
+  public int count(Symbol symbol) {
+    int count = 0;
+    for (Color color : Color.values()) {
+      count += symbolsOf(color) >>> symbol.ordinal() & 1;
+    }
+    return count;
+  }
+
+  public List<Card> toList() {
+    final List<Card> cards = new ArrayList<>(size());
+    forEach(cards::add);
+    return cards;
+  }
+
+  public Stream<Card> stream() {
+    return toList().stream();
+  }
+
+  @Override
+  public Iterator<Card> iterator() {
+    return new Iterator<>() {
+      private long remaining = mask;
+
+      @Override
+      public boolean hasNext() {
+        return remaining != 0;
+      }
+
+      @Override
+      public Card next() {
+        if (remaining == 0) {
+          throw new NoSuchElementException("No cards left in " + CardSet.this);
+        }
+        final int index = Long.numberOfTrailingZeros(remaining);
+        remaining &= remaining - 1;
+        return Card.fromIndex(index);
+      }
+    };
+  }
+
+  private static long bit(Card card) {
+    return 1L << card.index();
+  }
+
+  @Override
+  public String toString() {
+    return "CardSet" + stream().map(Card::toString)
+        .collect(Collectors.joining(", ", "{", "}"));
+  }
+}
@@ -13,6 +13,7 @@ public class CommunityCards implements CommunityCardsProvider {
   private final Flop flop;
   private final Turn turn;
   private final River river;
+  private final CardSet cardSet;
 
   public static CommunityCardsProvider empty() {
     return new CommunityCards();
@@ -47,6 +48,12 @@ public class CommunityCards implements CommunityCardsProvider {
     this.flop = flop;
     this.turn = turn;
     this.river = river;
+    this.cardSet = CardSet.of(cardsDealt());
+  }
+
+  @Override
+  public CardSet cardSet() {
+    return cardSet;
   }
 
   @Override
@@ -8,6 +8,10 @@ public interface CommunityCardsProvider {
 
   Collection<Card> cardsDealt();
 
+  default CardSet cardSet() {
+    return CardSet.of(cardsDealt());
+  }
+
   Optional<Flop> flop();
 
   Optional<Turn> turn();
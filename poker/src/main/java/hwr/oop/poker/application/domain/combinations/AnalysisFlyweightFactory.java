@@ -1,26 +1,76 @@
 package hwr.oop.poker.application.domain.combinations;
 
 import hwr.oop.poker.application.domain.Card;
-import java.util.HashMap;
+import hwr.oop.poker.application.domain.cards.CardSet;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
-final class AnalysisFlyweightFactory {
+public final class AnalysisFlyweightFactory {
 
-  private final Map<Integer, AnalysisFlyweight> map;
+  private static final int DEFAULT_CAPACITY = 1 << 14;
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+  private static final AnalysisFlyweightFactory SHARED =
+      new AnalysisFlyweightFactory(DEFAULT_CAPACITY);
 
-  public AnalysisFlyweightFactory() {
-    this.map = new HashMap<>();
+  private final AtomicReferenceArray<Entry> entries;
+  private final int indexBits;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  public static AnalysisFlyweightFactory shared() {
+    return SHARED;
+  }
+
+  AnalysisFlyweightFactory(int capacity) {
+    if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two, got: " + capacity);
+    }
+    this.entries = new AtomicReferenceArray<>(capacity);
+    this.indexBits = Integer.numberOfTrailingZeros(capacity);
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
   }
 
-  public AnalysisFlyweight get(List<Card> cards) {
-    final int hashCode = cards.hashCode();
-    if (map.containsKey(hashCode)) {
-      return map.get(hashCode);
+  AnalysisFlyweight get(List<Card> cards) {
+    final var cardSet = CardSet.of(cards);
+    if (cardSet.size() != cards.size()) {
+      misses.increment();
+      return AnalysisFlyweight.create(cards);  // repeated cards have no exact mask key
+    }
+    final long key = cardSet.mask();
+    final int index = indexOf(key);
+    final Entry entry = entries.get(index);
+    if (entry != null && entry.key() == key) {
+      hits.increment();
+      return entry.flyweight();
     } else {
+      misses.increment();
       final AnalysisFlyweight analysisFlyweight = AnalysisFlyweight.create(cards);
-      map.put(hashCode, analysisFlyweight);
+      entries.set(index, new Entry(key, analysisFlyweight));  // evicts whatever was there
       return analysisFlyweight;
     }
   }
+
+  public Statistics statistics() {
+    return new Statistics(hits.sum(), misses.sum(), entries.length());
+  }
+
+  private int indexOf(long key) {
+    if (indexBits == 0) {
+      return 0;
+    }
+    return (int) ((key * GOLDEN_RATIO) >>> (Long.SIZE - indexBits));
+  }
+
+  private record Entry(long key, AnalysisFlyweight flyweight) {
+    // nothing to do here
+  }
+
+  public record Statistics(long hits, long misses, int capacity) {
+
+    public long requests() {
+      return hits + misses;
+    }
+  }
 }
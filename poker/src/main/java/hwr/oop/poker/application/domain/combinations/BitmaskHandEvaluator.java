@@ -0,0 +1,164 @@
+package hwr.oop.poker.application.domain.combinations;
+
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.FLUSH;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.FULL_HOUSE;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.HIGH_CARD;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.PAIR;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.QUADS;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.STRAIGHT;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.STRAIGHT_FLUSH;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.TRIPS;
+import static hwr.oop.poker.application.domain.combinations.Combination.Label.TWO_PAIRS;
+
+final class BitmaskHandEvaluator implements HandEvaluator {
+
+  static final BitmaskHandEvaluator INSTANCE = new BitmaskHandEvaluator();
+
+  private static final int COLOR_MASK = (1 << SYMBOLS_PER_COLOR) - 1;
+  private static final int LOWEST_STRENGTH = 2;
+  private static final int NO_STRAIGHT = -1;
+
+  private BitmaskHandEvaluator() {
+    // singleton, stateless
+  }
+
+  @Override
+  public int evaluate(long cards) {
+    final int first = colorMask(cards, 0);
+    final int second = colorMask(cards, 1);
+    final int third = colorMask(cards, 2);
+    final int fourth = colorMask(cards, 3);
+    final int symbols = first | second | third | fourth;
+    final int flush = flushMask(first, second, third, fourth);
+    final int quads = first & second & third & fourth;
+    final int atLeastTwo = (first & second) | (first & third) | (first & fourth)
+        | (second & third) | (second & fourth) | (third & fourth);
+    final int atLeastThree = (first & second & third) | (first & second & fourth)
+        | (first & third & fourth) | (second & third & fourth);
+    return rank(symbols, atLeastTwo, atLeastThree, quads, flush);
+  }
+
+  // ranks from per-symbol masks of how often each symbol is held, and the symbols of the flush
+  // color or 0, so incremental evaluations can keep these masks instead of the card set
+  static int rank(int symbols, int atLeastTwo, int atLeastThree, int quads, int flush) {
+    if (flush != 0) {
+      final int straightFlushTop = straightTop(flush);
+      if (straightFlushTop != NO_STRAIGHT) {
+        return HandRank.of(STRAIGHT_FLUSH, straightFrom(straightFlushTop));
+      }
+    }
+
+    if (quads != 0) {
+      final int quadsSymbol = highest(quads);
+      final int packed = repeat(0, quadsSymbol, 4);
+      return HandRank.of(QUADS, highestOf(symbols & ~quadsSymbol, 1, packed));
+    }
+
+    final int trips = atLeastThree;
+    final int pairs = atLeastTwo & ~atLeastThree;
+
+    if (trips != 0) {
+      final int tripsSymbol = highest(trips);
+      final int pairCandidates = (pairs | trips) & ~tripsSymbol;
+      if (pairCandidates != 0) {
+        final int packed = repeat(0, tripsSymbol, 3);
+        return HandRank.of(FULL_HOUSE, repeat(packed, highest(pairCandidates), 2));
+      }
+    }
+
+    if (flush != 0) {
+      return HandRank.of(FLUSH, highestOf(flush, 5, 0));
+    }
+
+    final int straightTop = straightTop(symbols);
+    if (straightTop != NO_STRAIGHT) {
+      return HandRank.of(STRAIGHT, straightFrom(straightTop));
+    }
+
+    if (trips != 0) {
+      final int tripsSymbol = highest(trips);
+      final int packed = repeat(0, tripsSymbol, 3);
+      return HandRank.of(TRIPS, highestOf(symbols & ~tripsSymbol, 2, packed));
+    }
+
+    if (Integer.bitCount(pairs) >= 2) {
+      final int highPair = highest(pairs);
+      final int lowPair = highest(pairs & ~highPair);
+      final int packed = repeat(repeat(0, highPair, 2), lowPair, 2);
+      return HandRank.of(TWO_PAIRS, highestOf(symbols & ~highPair & ~lowPair, 1, packed));
+    }
+
+    if (pairs != 0) {
+      final int pair = highest(pairs);
+      final int packed = repeat(0, pair, 2);
+      return HandRank.of(PAIR, highestOf(symbols & ~pair, 3, packed));
+    }
+
+    return HandRank.of(HIGH_CARD, highestOf(symbols, 5, 0));
+  }
+
+  static int colorMask(long cards, int colorOrdinal) {
+    return (int) (cards >>> (colorOrdinal * SYMBOLS_PER_COLOR)) & COLOR_MASK;
+  }
+
+  static int flushMask(int first, int second, int third, int fourth) {
+    if (Integer.bitCount(first) >= 5) {
+      return first;
+    } else if (Integer.bitCount(second) >= 5) {
+      return second;
+    } else if (Integer.bitCount(third) >= 5) {
+      return third;
+    } else if (Integer.bitCount(fourth) >= 5) {
+      return fourth;
+    } else {
+      return 0;
+    }
+  }
+
+  // like the strategy chain, the ace only ranks high, so there is no five-high straight
+  private static int straightTop(int symbols) {
+    final int starts = symbols & symbols >>> 1 & symbols >>> 2 & symbols >>> 3 & symbols >>> 4;
+    if (starts == 0) {
+      return NO_STRAIGHT;
+    } else {
+      return indexOf(Integer.highestOneBit(starts)) + 4;
+    }
+  }
+
+  private static int straightFrom(int topIndex) {
+    int packed = 0;
+    for (int index = topIndex; index > topIndex - 5; index--) {
+      packed = HandRank.append(packed, index + LOWEST_STRENGTH);
+    }
+    return packed;
+  }
+
+  private static int highestOf(int symbols, int count, int packed) {
+    int remaining = symbols;
+    int result = packed;
+    for (int i = 0; i < count; i++) {
+      final int highest = highest(remaining);
+      final int strength = highest == 0 ? 0 : indexOf(highest) + LOWEST_STRENGTH;
+      result = HandRank.append(result, strength);
+      remaining &= ~highest;
+    }
+    return result;
+  }
+
+  private static int repeat(int packed, int symbol, int times) {
+    final int strength = indexOf(symbol) + LOWEST_STRENGTH;
+    int result = packed;
+    for (int i = 0; i < times; i++) {
+      result = HandRank.append(result, strength);
+    }
+    return result;
+  }
+
+  private static int highest(int symbols) {
+    return Integer.highestOneBit(symbols);
+  }
+
+  private static int indexOf(int singleSymbol) {
+    return Integer.numberOfTrailingZeros(singleSymbol);
+  }
+}
@@ -1,24 +1,56 @@
 package hwr.oop.poker.application.domain.combinations;
 
 import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Color;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
 
 public final class Combination implements Comparable<Combination> {
 
-  private final List<Card> nonKickers;
-  private final List<Card> kickers;
-  private final List<Card> cards;
-  private Label label;
+  private final int rank;
+  private final Label label;
+  private final List<Card> candidates;
+  private final CardSet cardSet;
+  private volatile List<Card> cards;
 
   public static Combination of(List<Card> cards) {
     return new Combination(cards);
   }
 
+  public static Combination of(List<Card> cards, HandEvaluator evaluator) {
+    return new Combination(cards, evaluator);
+  }
+
+  // ranks the mask directly, the cards are only listed once cards() or kickers() is asked for
+  public static Combination of(CardSet cards, HandEvaluator evaluator) {
+    final int rank = cards.size() >= HandRank.numberOfCards()
+        ? evaluator.evaluate(cards)
+        : StrategyChainHandEvaluator.rankOf(cards.toList());
+    return ranked(cards, rank);
+  }
+
+  static Combination ranked(CardSet cards, int rank) {
+    return new Combination(null, cards, rank);
+  }
+
   public Combination(List<Card> cards) {
-    this.nonKickers = selectNonKickerCards(cards);
-    this.kickers = selectKickers(cards);
-    this.cards = Stream.concat(nonKickers.stream(), kickers.stream()).toList();
+    this(cards, HandEvaluator.computed());
+  }
+
+  private Combination(List<Card> cards, HandEvaluator evaluator) {
+    this(List.copyOf(cards), null, rankOf(cards, evaluator));
+  }
+
+  private Combination(List<Card> candidates, CardSet cardSet, int rank) {
+    this.rank = rank;
+    this.label = HandRank.label(rank);
+    this.candidates = candidates;
+    this.cardSet = cardSet;
+    this.cards = null;
   }
 
   public Combination.Label label() {
@@ -26,37 +58,69 @@ public final class Combination implements Comparable<Combination> {
   }
 
   public List<Card> cards() {
-    return cards;
+    List<Card> selected = cards;
+    if (selected == null) {
+      // racing threads select the same cards, so no lock is needed
+      selected = selectCards(candidates != null ? candidates : cardSet.toList());
+      cards = selected;
+    }
+    return selected;
   }
 
   public List<Card> kickers() {
-    return kickers;
+    final List<Card> selected = cards();
+    return selected.subList(label.numberOfNonKickers(), selected.size());
   }
 
-  private List<Card> selectNonKickerCards(List<Card> cards) {
-    final var factory = CombinationDetectionStrategyFactory.create();
-    final var strategies = factory.createAll();
-    for (var strategy : strategies) {
-      final var result = strategy.match(cards);
-      if (result.successful()) {
-        this.label = result.label();
-        return result.winner();
-      }
+  public int rank() {
+    return rank;
+  }
+
+  private static int rankOf(List<Card> cards, HandEvaluator evaluator) {
+    final var cardSet = CardSet.of(cards);
+    final boolean distinctCards = cardSet.size() == cards.size();
+    if (distinctCards && cards.size() >= HandRank.numberOfCards()) {
+      return evaluator.evaluate(cardSet);
+    } else {
+      return StrategyChainHandEvaluator.rankOf(cards);  // strategies cope with repeated cards
     }
-    this.label = Label.HIGH_CARD;
-    return List.of();
   }
 
-  private List<Card> selectKickers(List<Card> cards) {
-    final List<Card> kickerCandidates = cards.stream()
-        .filter(c -> !nonKickers.contains(c))
-        .sorted(Card.DESCENDING_BY_SYMBOL_STRENGTH)
-        .toList();
-    return kickerCandidates.subList(0, numberOfKickersRequired());
+  private List<Card> selectCards(List<Card> candidates) {
+    final List<Card> remaining = new ArrayList<>(candidates);
+    final List<Card> selected = new ArrayList<>(HandRank.numberOfCards());
+    final Color preferredColor = requiresSingleColor() ? mostCommonColor(candidates) : null;
+    final int numberOfCards = Math.min(HandRank.numberOfCards(), candidates.size());
+    for (int position = 0; position < numberOfCards; position++) {
+      final int strength = HandRank.strengthAt(rank, position);
+      final Card card = takeCard(remaining, strength, preferredColor);
+      selected.add(card);
+    }
+    return Collections.unmodifiableList(selected);
   }
 
-  private int numberOfKickersRequired() {
-    return 5 - nonKickers.size();
+  private boolean requiresSingleColor() {
+    return label == Label.FLUSH || label == Label.STRAIGHT_FLUSH;
+  }
+
+  private static Card takeCard(List<Card> remaining, int strength, Color preferredColor) {
+    for (int i = 0; i < remaining.size(); i++) {
+      final Card card = remaining.get(i);
+      final boolean matchesColor = preferredColor == null || card.color() == preferredColor;
+      if (card.symbol().strength() == strength && matchesColor) {
+        return remaining.remove(i);
+      }
+    }
+    throw new IllegalStateException("No card of strength " + strength + " left in " + remaining);
+  }
+
+  private static Color mostCommonColor(List<Card> cards) {
+    final Map<Color, Integer> counts = new EnumMap<>(Color.class);
+    cards.forEach(c -> counts.merge(c.color(), 1, Integer::sum));
+    return counts.entrySet().stream()
+        .max(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey)
+        .orElseThrow();
   }
 
   public boolean over(Combination other) {
@@ -65,37 +129,27 @@ public final class Combination implements Comparable<Combination> {
 
   @Override
   public int compareTo(Combination other) {
-    final int strengthComparatorResult = Integer.compare(this.label().strength(),
-        other.label().strength());
-    if (strengthComparatorResult != 0) {
-      return strengthComparatorResult;
-    }
-    final var comparator = Card.ASCENDING_BY_SYMBOL_STRENGTH;
-    final var instanceCards = this.cards();
-    final var otherCards = other.cards();
-    for (int i = 0; i < instanceCards.size(); i++) {
-      final var card = instanceCards.get(i);
-      final var otherCard = otherCards.get(i);
-      final int result = comparator.compare(card, otherCard);
-      if (result != 0) {
-        return result;
-      }
-    }
-    return 0;
+    return Integer.compare(this.rank, other.rank);
   }
 
   public enum Label {
-    HIGH_CARD(0), PAIR(1), TWO_PAIRS(2), TRIPS(3), STRAIGHT(4), FLUSH(5), FULL_HOUSE(6), QUADS(
-        7), STRAIGHT_FLUSH(8);
+    HIGH_CARD(0, 0), PAIR(1, 2), TWO_PAIRS(2, 4), TRIPS(3, 3), STRAIGHT(4, 5), FLUSH(5, 5),
+    FULL_HOUSE(6, 5), QUADS(7, 4), STRAIGHT_FLUSH(8, 5);
 
     private final int strength;
+    private final int numberOfNonKickers;
 
-    Label(int strength) {
+    Label(int strength, int numberOfNonKickers) {
       this.strength = strength;
+      this.numberOfNonKickers = numberOfNonKickers;
     }
 
     public int strength() {
       return strength;
     }
+
+    public int numberOfNonKickers() {
+      return numberOfNonKickers;
+    }
   }
 }
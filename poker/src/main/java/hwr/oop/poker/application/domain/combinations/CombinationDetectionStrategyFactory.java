@@ -7,11 +7,11 @@ final class CombinationDetectionStrategyFactory {
   private final AnalysisFlyweightFactory analysisFlyweightFactory;
 
   public static CombinationDetectionStrategyFactory create() {
-    return new CombinationDetectionStrategyFactory();
+    return new CombinationDetectionStrategyFactory(AnalysisFlyweightFactory.shared());
   }
 
-  public CombinationDetectionStrategyFactory() {
-    this.analysisFlyweightFactory = new AnalysisFlyweightFactory();
+  public CombinationDetectionStrategyFactory(AnalysisFlyweightFactory analysisFlyweightFactory) {
+    this.analysisFlyweightFactory = analysisFlyweightFactory;
   }
 
   public List<CombinationDetectionStrategy> createAll() {
@@ -0,0 +1,42 @@
+package hwr.oop.poker.application.domain.combinations;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Symbol;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import java.nio.file.Path;
+import java.util.Collection;
+
+public interface HandEvaluator {
+
+  int SYMBOLS_PER_COLOR = Symbol.values().length;
+
+  static HandEvaluator computed() {
+    return BitmaskHandEvaluator.INSTANCE;
+  }
+
+  static HandEvaluator lookupTable(Path file) {
+    return LookupTableHandEvaluator.load(file);
+  }
+
+  static HandEvaluator strategyChain() {
+    return StrategyChainHandEvaluator.INSTANCE;
+  }
+
+  int evaluate(long cards);
+
+  default int evaluate(CardSet cards) {
+    return evaluate(cards.mask());
+  }
+
+  default int evaluate(Collection<Card> cards) {
+    return evaluate(CardSet.of(cards));
+  }
+
+  class EvaluationTableException extends RuntimeException {
+
+    public EvaluationTableException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+}
@@ -0,0 +1,47 @@
+package hwr.oop.poker.application.domain.combinations;
+
+import hwr.oop.poker.application.domain.Card;
+import java.util.List;
+
+final class HandRank {
+
+  private static final int BITS_PER_SYMBOL = 4;
+  private static final int SYMBOL_MASK = (1 << BITS_PER_SYMBOL) - 1;
+  private static final int CARDS_IN_COMBINATION = 5;
+  private static final int LABEL_SHIFT = BITS_PER_SYMBOL * CARDS_IN_COMBINATION;
+  private static final Combination.Label[] LABELS = Combination.Label.values();
+
+  private HandRank() {
+    // utility class
+  }
+
+  static int of(Combination.Label label, int packedStrengths) {
+    return label.strength() << LABEL_SHIFT | packedStrengths;
+  }
+
+  static int of(Combination.Label label, List<Card> cards) {
+    int packed = 0;
+    for (int i = 0; i < CARDS_IN_COMBINATION; i++) {
+      final int strength = i < cards.size() ? cards.get(i).symbol().strength() : 0;
+      packed = append(packed, strength);
+    }
+    return of(label, packed);
+  }
+
+  static int append(int packedStrengths, int strength) {
+    return packedStrengths << BITS_PER_SYMBOL | strength;
+  }
+
+  static Combination.Label label(int rank) {
+    return LABELS[rank >>> LABEL_SHIFT];
+  }
+
+  static int strengthAt(int rank, int position) {
+    final int shift = BITS_PER_SYMBOL * (CARDS_IN_COMBINATION - 1 - position);
+    return rank >>> shift & SYMBOL_MASK;
+  }
+
+  static int numberOfCards() {
+    return CARDS_IN_COMBINATION;
+  }
+}
@@ -0,0 +1,132 @@
+package hwr.oop.poker.application.domain.combinations;
+
+import hwr.oop.poker.application.domain.cards.CardSet;
+import java.util.Objects;
+
+// keeps per-symbol and per-color counts that each deal updates for the new cards only, the rank
+// is taken from these counts when it is first asked for
+public final class IncrementalEvaluation {
+
+  private static final int NO_FLUSH = -1;
+  private static final int UNRANKED = -1;
+  private static final int BITS_PER_COLOR_COUNT = 4;
+  private static final int COLOR_COUNT_MASK = (1 << BITS_PER_COLOR_COUNT) - 1;
+  private static final int FLUSH_SIZE = 5;
+
+  private final HandEvaluator evaluator;
+  private final CardSet cards;
+  private final int symbols;
+  private final int atLeastTwo;
+  private final int atLeastThree;
+  private final int quads;
+  private final int colorCounts;
+  private final int flushColor;
+  private int rank;
+
+  public static IncrementalEvaluation start(CardSet holeCards) {
+    return start(holeCards, HandEvaluator.computed());
+  }
+
+  public static IncrementalEvaluation start(CardSet holeCards, HandEvaluator evaluator) {
+    return new IncrementalEvaluation(evaluator, CardSet.empty(), 0, 0, 0, 0, 0, NO_FLUSH)
+        .deal(holeCards);
+  }
+
+  private IncrementalEvaluation(HandEvaluator evaluator, CardSet cards, int symbols,
+      int atLeastTwo, int atLeastThree, int quads, int colorCounts, int flushColor) {
+    this.evaluator = evaluator;
+    this.cards = cards;
+    this.symbols = symbols;
+    this.atLeastTwo = atLeastTwo;
+    this.atLeastThree = atLeastThree;
+    this.quads = quads;
+    this.colorCounts = colorCounts;
+    this.flushColor = flushColor;
+    this.rank = UNRANKED;
+  }
+
+  public IncrementalEvaluation deal(CardSet streetCards) {
+    long dealt = streetCards.mask() & ~cards.mask();
+    if (dealt == 0L) {
+      return this;
+    }
+    int newSymbols = symbols;
+    int newAtLeastTwo = atLeastTwo;
+    int newAtLeastThree = atLeastThree;
+    int newQuads = quads;
+    int newColorCounts = colorCounts;
+    int newFlushColor = flushColor;
+    while (dealt != 0L) {
+      final int index = Long.numberOfTrailingZeros(dealt);
+      final int color = index / HandEvaluator.SYMBOLS_PER_COLOR;
+      final int symbol = 1 << index % HandEvaluator.SYMBOLS_PER_COLOR;
+      newQuads |= newAtLeastThree & symbol;
+      newAtLeastThree |= newAtLeastTwo & symbol;
+      newAtLeastTwo |= newSymbols & symbol;
+      newSymbols |= symbol;
+      newColorCounts += 1 << color * BITS_PER_COLOR_COUNT;
+      if ((newColorCounts >>> color * BITS_PER_COLOR_COUNT & COLOR_COUNT_MASK) == FLUSH_SIZE) {
+        newFlushColor = color;
+      }
+      dealt &= dealt - 1;
+    }
+    return new IncrementalEvaluation(evaluator, cards.union(streetCards), newSymbols,
+        newAtLeastTwo, newAtLeastThree, newQuads, newColorCounts, newFlushColor);
+  }
+
+  public CardSet cards() {
+    return cards;
+  }
+
+  // other evaluators than the computed one rank the whole card set instead of the counts
+  public int rank() {
+    if (rank == UNRANKED) {
+      if (evaluator == HandEvaluator.computed()) {
+        final int flush = flushColor == NO_FLUSH
+            ? 0
+            : BitmaskHandEvaluator.colorMask(cards.mask(), flushColor);
+        rank = BitmaskHandEvaluator.rank(symbols, atLeastTwo, atLeastThree, quads, flush);
+      } else {
+        rank = evaluator.evaluate(cards);
+      }
+    }
+    return rank;
+  }
+
+  public Combination.Label label() {
+    return HandRank.label(rank());
+  }
+
+  public Combination combination() {
+    return Combination.ranked(cards, rank());
+  }
+
+  public boolean over(IncrementalEvaluation other) {
+    return rank() > other.rank();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    IncrementalEvaluation that = (IncrementalEvaluation) o;
+    return rank() == that.rank() && Objects.equals(cards, that.cards);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(cards, rank());
+  }
+
+  @Override
+  public String toString() {
+    return "IncrementalEvaluation{" +
+        "cards=" + cards +
+        ", label=" + label() +
+        '}';
+  }
+}
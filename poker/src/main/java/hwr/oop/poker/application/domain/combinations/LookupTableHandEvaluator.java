@@ -0,0 +1,190 @@
+package hwr.oop.poker.application.domain.combinations;
+
+import static hwr.oop.poker.application.domain.combinations.BitmaskHandEvaluator.colorMask;
+import static hwr.oop.poker.application.domain.combinations.BitmaskHandEvaluator.flushMask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+final class LookupTableHandEvaluator implements HandEvaluator {
+
+  private static final int MAGIC = 0x504B5254;  // "PKRT"
+  private static final int VERSION = 1;
+  private static final int HEADER_INTS = 4;
+  private static final int MAX_CARDS = 7;
+  private static final int MAX_OF_A_KIND = 4;
+  private static final int FLUSH_ENTRIES = 1 << SYMBOLS_PER_COLOR;
+  private static final int[][] MULTISETS = countMultisets();
+  private static final int[] OFFSETS = offsetsPerNumberOfCards();
+  private static final int NON_FLUSH_ENTRIES = OFFSETS[MAX_CARDS + 1];
+  private static final int TOTAL_INTS = HEADER_INTS + FLUSH_ENTRIES + NON_FLUSH_ENTRIES;
+
+  private final IntBuffer table;
+
+  static LookupTableHandEvaluator load(Path file) {
+    try {
+      if (!isValidTable(file)) {
+        generate(file);
+      }
+      return new LookupTableHandEvaluator(map(file));
+    } catch (IOException e) {
+      throw new EvaluationTableException("Could not load evaluation table " + file, e);
+    }
+  }
+
+  private LookupTableHandEvaluator(IntBuffer table) {
+    this.table = table;
+  }
+
+  @Override
+  public int evaluate(long cards) {
+    if (Long.bitCount(cards) > MAX_CARDS) {
+      return HandEvaluator.computed().evaluate(cards);
+    }
+    final int first = colorMask(cards, 0);
+    final int second = colorMask(cards, 1);
+    final int third = colorMask(cards, 2);
+    final int fourth = colorMask(cards, 3);
+    final int flush = flushMask(first, second, third, fourth);
+    if (flush != 0) {
+      // with at most 7 cards, five of one color rule out quads and full houses
+      return table.get(HEADER_INTS + flush);
+    } else {
+      final int index = perfectHash(first, second, third, fourth);
+      return table.get(HEADER_INTS + FLUSH_ENTRIES + index);
+    }
+  }
+
+  private static int perfectHash(int first, int second, int third, int fourth) {
+    int remaining = Integer.bitCount(first) + Integer.bitCount(second)
+        + Integer.bitCount(third) + Integer.bitCount(fourth);
+    int index = OFFSETS[remaining];
+    for (int symbol = 0; symbol < SYMBOLS_PER_COLOR && remaining > 0; symbol++) {
+      final int count = (first >>> symbol & 1) + (second >>> symbol & 1)
+          + (third >>> symbol & 1) + (fourth >>> symbol & 1);
+      for (int c = 0; c < count; c++) {
+        index += MULTISETS[symbol + 1][remaining - c];
+      }
+      remaining -= count;
+    }
+    return index;
+  }
+
+  // MULTISETS[s][n]: ways to distribute n cards over symbols s..12, at most four of a kind
+  private static int[][] countMultisets() {
+    final int[][] multisets = new int[SYMBOLS_PER_COLOR + 1][MAX_CARDS + 1];
+    multisets[SYMBOLS_PER_COLOR][0] = 1;
+    for (int symbol = SYMBOLS_PER_COLOR - 1; symbol >= 0; symbol--) {
+      for (int n = 0; n <= MAX_CARDS; n++) {
+        for (int count = 0; count <= Math.min(n, MAX_OF_A_KIND); count++) {
+          multisets[symbol][n] += multisets[symbol + 1][n - count];
+        }
+      }
+    }
+    return multisets;
+  }
+
+  private static int[] offsetsPerNumberOfCards() {
+    final int[] offsets = new int[MAX_CARDS + 2];
+    for (int n = 0; n <= MAX_CARDS; n++) {
+      offsets[n + 1] = offsets[n] + MULTISETS[0][n];
+    }
+    return offsets;
+  }
+
+  private static boolean isValidTable(Path file) throws IOException {
+    if (!Files.isRegularFile(file) || Files.size(file) != (long) TOTAL_INTS * Integer.BYTES) {
+      return false;
+    }
+    final IntBuffer header = map(file);
+    return header.get(0) == MAGIC
+        && header.get(1) == VERSION
+        && header.get(2) == FLUSH_ENTRIES
+        && header.get(3) == NON_FLUSH_ENTRIES;
+  }
+
+  private static IntBuffer map(Path file) throws IOException {
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asIntBuffer();
+    }
+  }
+
+  private static void generate(Path file) throws IOException {
+    final var buffer = ByteBuffer.allocate(TOTAL_INTS * Integer.BYTES);
+    final IntBuffer ints = buffer.asIntBuffer();
+    ints.put(MAGIC).put(VERSION).put(FLUSH_ENTRIES).put(NON_FLUSH_ENTRIES);
+    fillFlushes(ints);
+    fillNonFlushes(ints);
+    writeAtomically(file, buffer);
+  }
+
+  private static void fillFlushes(IntBuffer ints) {
+    final var computed = HandEvaluator.computed();
+    for (int symbols = 0; symbols < FLUSH_ENTRIES; symbols++) {
+      final int numberOfCards = Integer.bitCount(symbols);
+      final boolean isFlush = numberOfCards >= 5 && numberOfCards <= MAX_CARDS;
+      ints.put(HEADER_INTS + symbols, isFlush ? computed.evaluate((long) symbols) : 0);
+    }
+  }
+
+  private static void fillNonFlushes(IntBuffer ints) {
+    final int[] counts = new int[SYMBOLS_PER_COLOR];
+    for (int n = 0; n <= MAX_CARDS; n++) {
+      fillNonFlushes(ints, counts, 0, n);
+    }
+  }
+
+  private static void fillNonFlushes(IntBuffer ints, int[] counts, int symbol, int remaining) {
+    if (symbol == SYMBOLS_PER_COLOR) {
+      if (remaining == 0) {
+        final long cards = spreadOverColors(counts);
+        final int index = perfectHash(colorMask(cards, 0), colorMask(cards, 1),
+            colorMask(cards, 2), colorMask(cards, 3));
+        ints.put(HEADER_INTS + FLUSH_ENTRIES + index, HandEvaluator.computed().evaluate(cards));
+      }
+      return;
+    }
+    for (int count = 0; count <= Math.min(remaining, MAX_OF_A_KIND); count++) {
+      counts[symbol] = count;
+      fillNonFlushes(ints, counts, symbol + 1, remaining - count);
+    }
+    counts[symbol] = 0;
+  }
+
+  // deals the cards round-robin over the colors, so no color holds more than two of seven
+  private static long spreadOverColors(int[] counts) {
+    long cards = 0L;
+    int color = 0;
+    for (int symbol = 0; symbol < SYMBOLS_PER_COLOR; symbol++) {
+      for (int c = 0; c < counts[symbol]; c++) {
+        cards |= 1L << (color * SYMBOLS_PER_COLOR + symbol);
+        color = (color + 1) % 4;
+      }
+    }
+    return cards;
+  }
+
+  private static void writeAtomically(Path file, ByteBuffer buffer) throws IOException {
+    final Path directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try (final var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    try {
+      Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
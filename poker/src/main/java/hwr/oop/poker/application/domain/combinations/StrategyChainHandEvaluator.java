@@ -0,0 +1,43 @@
+package hwr.oop.poker.application.domain.combinations;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class StrategyChainHandEvaluator implements HandEvaluator {
+
+  static final StrategyChainHandEvaluator INSTANCE = new StrategyChainHandEvaluator();
+  private static final List<CombinationDetectionStrategy> STRATEGIES =
+      CombinationDetectionStrategyFactory.create().createAll();
+
+  private StrategyChainHandEvaluator() {
+    // singleton, stateless
+  }
+
+  @Override
+  public int evaluate(long cards) {
+    return rankOf(CardSet.fromMask(cards).toList());
+  }
+
+  static int rankOf(List<Card> cards) {
+    for (var strategy : STRATEGIES) {
+      final var result = strategy.match(cards);
+      if (result.successful()) {
+        final var nonKickers = result.winner();
+        return HandRank.of(result.label(), withKickers(nonKickers, cards));
+      }
+    }
+    return HandRank.of(Combination.Label.HIGH_CARD, withKickers(List.of(), cards));
+  }
+
+  private static List<Card> withKickers(List<Card> nonKickers, List<Card> cards) {
+    final int numberOfKickersRequired = HandRank.numberOfCards() - nonKickers.size();
+    final List<Card> kickerCandidates = cards.stream()
+        .filter(c -> !nonKickers.contains(c))
+        .sorted(Card.DESCENDING_BY_SYMBOL_STRENGTH)
+        .toList();
+    final var kickers = kickerCandidates.subList(0, numberOfKickersRequired);
+    return Stream.concat(nonKickers.stream(), kickers.stream()).toList();
+  }
+}
@@ -16,7 +16,7 @@ public class RandomDeck implements Deck {
     this.cards = new ArrayList<>();
     for (Color color : Color.values()) {
       for (Symbol symbol : Symbol.values()) {
-        final Card card = new Card(color, symbol);
+        final Card card = Card.of(color, symbol);
         this.cards.add(card);
       }
     }
@@ -0,0 +1,33 @@
+package hwr.oop.poker.application.domain.equity;
+
+import java.time.Duration;
+
+public record Equity(long wins, long ties, long losses, Duration elapsed) {
+
+  public long samples() {
+    return wins + ties + losses;
+  }
+
+  public double winRate() {
+    return rate(wins);
+  }
+
+  public double tieRate() {
+    return rate(ties);
+  }
+
+  public double lossRate() {
+    return rate(losses);
+  }
+
+  private double rate(long count) {
+    final long samples = samples();
+    return samples == 0 ? 0.0 : (double) count / samples;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Equity{win=%.4f, tie=%.4f, loss=%.4f, samples=%d, elapsed=%s}",
+        winRate(), tieRate(), lossRate(), samples(), elapsed);
+  }
+}
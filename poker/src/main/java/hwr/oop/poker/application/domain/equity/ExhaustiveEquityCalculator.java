@@ -0,0 +1,243 @@
+package hwr.oop.poker.application.domain.equity;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ExhaustiveEquityCalculator {
+
+  private static final int BOARD_SIZE = 5;
+  private static final int HOLE_CARDS = 2;
+
+  private final List<Player> players;
+  private final long[] holeCards;
+  private final CardSet board;
+  private final int[] deck;
+  private final HandEvaluator evaluator;
+  private final ForkJoinPool pool;
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  public static Builder forHand(Hand hand) {
+    final var builder = newBuilder().board(hand);
+    hand.remainingPlayers().forEach(p -> builder.player(p, hand.holeCardSet(p)));
+    return builder;
+  }
+
+  private ExhaustiveEquityCalculator(Builder builder) {
+    this.players = List.copyOf(builder.holeCards.keySet());
+    this.holeCards = builder.holeCards.values().stream().mapToLong(CardSet::mask).toArray();
+    this.board = builder.board;
+    this.evaluator = builder.evaluator;
+    this.pool = builder.pool;
+    assertIsValid(builder.deadCards);
+    this.deck = remainingDeck(builder.deadCards);
+  }
+
+  public Map<Player, Equity> calculate() {
+    final long start = System.nanoTime();
+    final int missing = BOARD_SIZE - board.size();
+    final Counts counts;
+    if (missing == 0) {
+      counts = new Counts(players.size());
+      counts.record(board.mask(), holeCards, evaluator);
+    } else {
+      counts = pool.invoke(new EnumerationTask(0, deck.length - missing + 1, missing));
+    }
+    final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+    return toEquities(counts, elapsed);
+  }
+
+  private Map<Player, Equity> toEquities(Counts counts, Duration elapsed) {
+    final Map<Player, Equity> equities = new LinkedHashMap<>();
+    for (int p = 0; p < players.size(); p++) {
+      final long losses = counts.runOuts - counts.wins[p] - counts.ties[p];
+      equities.put(players.get(p), new Equity(counts.wins[p], counts.ties[p], losses, elapsed));
+    }
+    return Collections.unmodifiableMap(equities);
+  }
+
+  private int[] remainingDeck(CardSet deadCards) {
+    long known = board.mask() | deadCards.mask();
+    for (long cards : holeCards) {
+      known |= cards;
+    }
+    final var remaining = CardSet.fromMask((1L << Card.NUMBER_OF_CARDS) - 1)
+        .without(CardSet.fromMask(known));
+    final int[] cards = new int[remaining.size()];
+    int i = 0;
+    for (Card card : remaining) {
+      cards[i++] = card.index();
+    }
+    return cards;
+  }
+
+  private void assertIsValid(CardSet deadCards) {
+    if (players.size() < 2) {
+      throw new IllegalArgumentException("Need at least two players, got: " + players);
+    }
+    if (board.size() > BOARD_SIZE) {
+      throw new IllegalArgumentException("Board has more than 5 cards: " + board);
+    }
+    long seen = board.mask() | deadCards.mask();
+    for (int p = 0; p < players.size(); p++) {
+      final long cards = holeCards[p];
+      if (Long.bitCount(cards) != HOLE_CARDS || (cards & seen) != 0) {
+        throw new IllegalArgumentException("Invalid hole cards for " + players.get(p) + ": "
+            + CardSet.fromMask(cards));
+      }
+      seen |= cards;
+    }
+  }
+
+  private static final class Counts {
+
+    private final long[] wins;
+    private final long[] ties;
+    private final int[] ranks;
+    private long runOuts;
+
+    private Counts(int numberOfPlayers) {
+      this.wins = new long[numberOfPlayers];
+      this.ties = new long[numberOfPlayers];
+      this.ranks = new int[numberOfPlayers];
+      this.runOuts = 0;
+    }
+
+    private void record(long fullBoard, long[] holeCards, HandEvaluator evaluator) {
+      int best = Integer.MIN_VALUE;
+      int numberOfBest = 0;
+      for (int p = 0; p < holeCards.length; p++) {
+        final int rank = evaluator.evaluate(fullBoard | holeCards[p]);
+        ranks[p] = rank;
+        if (rank > best) {
+          best = rank;
+          numberOfBest = 1;
+        } else if (rank == best) {
+          numberOfBest++;
+        }
+      }
+      for (int p = 0; p < holeCards.length; p++) {
+        if (ranks[p] == best) {
+          if (numberOfBest == 1) {
+            wins[p]++;
+          } else {
+            ties[p]++;
+          }
+        }
+      }
+      runOuts++;
+    }
+
+    private Counts add(Counts other) {
+      for (int p = 0; p < wins.length; p++) {
+        wins[p] += other.wins[p];
+        ties[p] += other.ties[p];
+      }
+      runOuts += other.runOuts;
+      return this;
+    }
+  }
+
+  private final class EnumerationTask extends RecursiveTask<Counts> {
+
+    private final int fromFirstCard;
+    private final int toFirstCard;
+    private final int missing;
+
+    private EnumerationTask(int fromFirstCard, int toFirstCard, int missing) {
+      this.fromFirstCard = fromFirstCard;
+      this.toFirstCard = toFirstCard;
+      this.missing = missing;
+    }
+
+    @Override
+    protected Counts compute() {
+      if (toFirstCard - fromFirstCard > 1) {
+        final int middle = (fromFirstCard + toFirstCard) >>> 1;
+        final var left = new EnumerationTask(fromFirstCard, middle, missing);
+        final var right = new EnumerationTask(middle, toFirstCard, missing);
+        left.fork();
+        final Counts rightCounts = right.compute();
+        return rightCounts.add(left.join());
+      } else {
+        final Counts counts = new Counts(players.size());
+        final long firstCard = 1L << deck[fromFirstCard];
+        enumerate(fromFirstCard + 1, missing - 1, board.mask() | firstCard, counts);
+        return counts;
+      }
+    }
+
+    private void enumerate(int from, int remaining, long partialBoard, Counts counts) {
+      if (remaining == 0) {
+        counts.record(partialBoard, holeCards, evaluator);
+        return;
+      }
+      for (int i = from; i <= deck.length - remaining; i++) {
+        enumerate(i + 1, remaining - 1, partialBoard | 1L << deck[i], counts);
+      }
+    }
+  }
+
+  public static class Builder {
+
+    private final Map<Player, CardSet> holeCards;
+    private CardSet board;
+    private CardSet deadCards;
+    private HandEvaluator evaluator;
+    private ForkJoinPool pool;
+
+    private Builder() {
+      this.holeCards = new LinkedHashMap<>();
+      this.board = CardSet.empty();
+      this.deadCards = CardSet.empty();
+      this.evaluator = HandEvaluator.computed();
+      this.pool = ForkJoinPool.commonPool();
+    }
+
+    public ExhaustiveEquityCalculator build() {
+      return new ExhaustiveEquityCalculator(this);
+    }
+
+    public Builder player(Player player, CardSet cards) {
+      this.holeCards.put(player, cards);
+      return this;
+    }
+
+    public Builder board(CardSet board) {
+      this.board = board;
+      return this;
+    }
+
+    public Builder board(CommunityCardsProvider communityCards) {
+      return board(communityCards.cardSet());
+    }
+
+    public Builder deadCards(CardSet deadCards) {
+      this.deadCards = deadCards;
+      return this;
+    }
+
+    public Builder evaluator(HandEvaluator evaluator) {
+      this.evaluator = evaluator;
+      return this;
+    }
+
+    public Builder pool(ForkJoinPool pool) {
+      this.pool = pool;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package hwr.oop.poker.application.domain.equity;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class MonteCarloEquityCalculator {
+
+  private static final int BOARD_SIZE = 5;
+  private static final int HOLE_CARDS = 2;
+  private static final int SAMPLES_BETWEEN_CLOCK_CHECKS = 1 << 10;
+  private static final int SLICES_PER_THREAD = 4;
+
+  private final CardSet holeCards;
+  private final CardSet board;
+  private final CardSet deadCards;
+  private final int opponents;
+  private final long iterations;
+  private final Duration timeBudget;
+  private final HandEvaluator evaluator;
+  private final ForkJoinPool pool;
+  private final long seed;
+  private final int slices;
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  public static Builder forPlayer(Hand hand, Player player) {
+    final int opponents = hand.remainingPlayers().size() - 1;
+    return newBuilder()
+        .holeCards(hand.holeCardSet(player))
+        .board(hand)
+        .opponents(opponents);
+  }
+
+  private MonteCarloEquityCalculator(Builder builder) {
+    this.holeCards = builder.holeCards;
+    this.board = builder.board;
+    this.deadCards = builder.deadCards;
+    this.opponents = builder.opponents;
+    this.iterations = builder.iterations;
+    this.timeBudget = builder.timeBudget;
+    this.evaluator = builder.evaluator;
+    this.pool = builder.pool;
+    this.seed = builder.seed;
+    this.slices = pool.getParallelism() * SLICES_PER_THREAD;
+    assertIsValid();
+  }
+
+  public Equity calculate() {
+    final long start = System.nanoTime();
+    final long deadline = timeBudget == null ? Long.MAX_VALUE : start + timeBudget.toNanos();
+    final var task = new SamplingTask(0, slices, new SplittableRandom(seed), deadline);
+    final Tally tally = pool.invoke(task);
+    return tally.toEquity(Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  private int[] remainingDeck() {
+    final var remaining = CardSet.fromMask((1L << Card.NUMBER_OF_CARDS) - 1)
+        .without(holeCards)
+        .without(board)
+        .without(deadCards);
+    final int[] deck = new int[remaining.size()];
+    int i = 0;
+    for (Card card : remaining) {
+      deck[i++] = card.index();
+    }
+    return deck;
+  }
+
+  private long iterationsOfSlice(int slice) {
+    if (iterations == Long.MAX_VALUE) {
+      return Long.MAX_VALUE;
+    }
+    final long share = iterations / slices;
+    return slice < iterations % slices ? share + 1 : share;
+  }
+
+  private void assertIsValid() {
+    if (holeCards.size() != HOLE_CARDS) {
+      throw new IllegalArgumentException("Expected 2 hole cards, got: " + holeCards);
+    }
+    if (board.size() > BOARD_SIZE || board.intersects(holeCards)) {
+      throw new IllegalArgumentException("Invalid board " + board + " for " + holeCards);
+    }
+    if (opponents < 1) {
+      throw new IllegalArgumentException("Need at least one opponent, got: " + opponents);
+    }
+    final int cardsPerSample = BOARD_SIZE - board.size() + HOLE_CARDS * opponents;
+    if (cardsPerSample > remainingDeck().length) {
+      throw new IllegalArgumentException("Not enough cards left for " + opponents + " opponents");
+    }
+  }
+
+  private final class SamplingTask extends RecursiveTask<Tally> {
+
+    private final int fromSlice;
+    private final int toSlice;
+    private final SplittableRandom random;
+    private final long deadline;
+
+    private SamplingTask(int fromSlice, int toSlice, SplittableRandom random, long deadline) {
+      this.fromSlice = fromSlice;
+      this.toSlice = toSlice;
+      this.random = random;
+      this.deadline = deadline;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (toSlice - fromSlice > 1) {
+        final int middle = (fromSlice + toSlice) >>> 1;
+        final var left = new SamplingTask(fromSlice, middle, random.split(), deadline);
+        final var right = new SamplingTask(middle, toSlice, random, deadline);
+        left.fork();
+        final Tally rightTally = right.compute();
+        return rightTally.add(left.join());
+      } else {
+        return sample(iterationsOfSlice(fromSlice));
+      }
+    }
+
+    private Tally sample(long count) {
+      final Tally tally = new Tally();
+      final int[] deck = remainingDeck();
+      final int boardCardsMissing = BOARD_SIZE - board.size();
+      final int cardsPerSample = boardCardsMissing + HOLE_CARDS * opponents;
+      for (long i = 0; i < count; i++) {
+        if (i % SAMPLES_BETWEEN_CLOCK_CHECKS == 0 && System.nanoTime() > deadline) {
+          break;
+        }
+        partialShuffle(deck, cardsPerSample);
+        long fullBoard = board.mask();
+        for (int c = 0; c < boardCardsMissing; c++) {
+          fullBoard |= 1L << deck[c];
+        }
+        final int heroRank = evaluator.evaluate(holeCards.mask() | fullBoard);
+        int bestOpponentRank = Integer.MIN_VALUE;
+        for (int o = 0; o < opponents; o++) {
+          final int first = deck[boardCardsMissing + HOLE_CARDS * o];
+          final int second = deck[boardCardsMissing + HOLE_CARDS * o + 1];
+          final int rank = evaluator.evaluate(fullBoard | 1L << first | 1L << second);
+          bestOpponentRank = Math.max(bestOpponentRank, rank);
+        }
+        tally.record(heroRank, bestOpponentRank);
+      }
+      return tally;
+    }
+
+    private void partialShuffle(int[] deck, int count) {
+      for (int i = 0; i < count; i++) {
+        final int j = i + random.nextInt(deck.length - i);
+        final int swap = deck[i];
+        deck[i] = deck[j];
+        deck[j] = swap;
+      }
+    }
+  }
+
+  public static class Builder {
+
+    private CardSet holeCards;
+    private CardSet board;
+    private CardSet deadCards;
+    private int opponents;
+    private long iterations;
+    private Duration timeBudget;
+    private HandEvaluator evaluator;
+    private ForkJoinPool pool;
+    private long seed;
+
+    private Builder() {
+      this.holeCards = null;
+      this.board = CardSet.empty();
+      this.deadCards = CardSet.empty();
+      this.opponents = 1;
+      this.iterations = 100_000;
+      this.timeBudget = null;
+      this.evaluator = HandEvaluator.computed();
+      this.pool = ForkJoinPool.commonPool();
+      this.seed = System.nanoTime();
+    }
+
+    public MonteCarloEquityCalculator build() {
+      Objects.requireNonNull(holeCards);
+      return new MonteCarloEquityCalculator(this);
+    }
+
+    public Builder holeCards(CardSet holeCards) {
+      this.holeCards = holeCards;
+      return this;
+    }
+
+    public Builder board(CardSet board) {
+      this.board = board;
+      return this;
+    }
+
+    public Builder board(CommunityCardsProvider communityCards) {
+      return board(communityCards.cardSet());
+    }
+
+    public Builder deadCards(CardSet deadCards) {
+      this.deadCards = deadCards;
+      return this;
+    }
+
+    public Builder opponents(int opponents) {
+      this.opponents = opponents;
+      return this;
+    }
+
+    public Builder iterations(long iterations) {
+      this.iterations = iterations;
+      this.timeBudget = null;
+      return this;
+    }
+
+    public Builder timeBudget(Duration timeBudget) {
+      this.timeBudget = timeBudget;
+      this.iterations = Long.MAX_VALUE;
+      return this;
+    }
+
+    public Builder evaluator(HandEvaluator evaluator) {
+      this.evaluator = evaluator;
+      return this;
+    }
+
+    public Builder pool(ForkJoinPool pool) {
+      this.pool = pool;
+      return this;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package hwr.oop.poker.application.domain.equity;
+
+import java.time.Duration;
+
+final class Tally {
+
+  private long wins;
+  private long ties;
+  private long losses;
+
+  void record(int heroRank, int bestOpponentRank) {
+    if (heroRank > bestOpponentRank) {
+      wins++;
+    } else if (heroRank == bestOpponentRank) {
+      ties++;
+    } else {
+      losses++;
+    }
+  }
+
+  Tally add(Tally other) {
+    wins += other.wins;
+    ties += other.ties;
+    losses += other.losses;
+    return this;
+  }
+
+  Equity toEquity(Duration elapsed) {
+    return new Equity(wins, ties, losses, elapsed);
+  }
+}
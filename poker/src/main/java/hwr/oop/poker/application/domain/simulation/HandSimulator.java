@@ -0,0 +1,254 @@
+package hwr.oop.poker.application.domain.simulation;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Seats;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class HandSimulator {
+
+  private static final int MIN_PLAYERS = 2;
+  // two hole cards each, five community cards and three burned ones
+  private static final int MAX_PLAYERS = (Card.NUMBER_OF_CARDS - 8) / 2;
+  private static final int SLICES_PER_THREAD = 4;
+
+  private final Seats seats;
+  // strategies[seat] plays for seats.at(seat)
+  private final Strategy[] strategies;
+  // seatings.get(i) has the small blind on seat i, the button moves one seat per hand
+  private final List<List<Player>> seatings;
+  private final Stacks startingStacks;
+  private final long startingStack;
+  private final BlindConfiguration blindConfiguration;
+  private final long hands;
+  private final ForkJoinPool pool;
+  private final long seed;
+  private final int slices;
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private HandSimulator(Builder builder) {
+    this.strategies = builder.strategies.toArray(Strategy[]::new);
+    this.seats = Seats.of(createPlayers(strategies.length));
+    this.seatings = createSeatings(seats);
+    this.startingStack = builder.startingStack;
+    this.startingStacks = createStacks(seats, startingStack);
+    this.blindConfiguration = BlindConfiguration.create(SmallBlind.of(builder.smallBlind));
+    this.hands = builder.hands;
+    this.pool = builder.pool;
+    this.seed = builder.seed;
+    this.slices = pool.getParallelism() * SLICES_PER_THREAD;
+    assertIsValid();
+  }
+
+  public SimulationResult run() {
+    final long start = System.nanoTime();
+    final var task = new SimulationTask(0, slices, new SplittableRandom(seed));
+    final SimulationTally tally = pool.invoke(task);
+    return tally.toResult(Duration.ofNanos(System.nanoTime() - start));
+  }
+
+  public List<Player> players() {
+    return seats.players();
+  }
+
+  private Hand playHand(List<Player> seating, List<Card> deckCards) {
+    Hand hand = Hand.newBuilder()
+        .deck(new UnshuffledDeck(deckCards))
+        .players(seating)
+        .stacks(startingStacks)
+        .blindConfiguration(blindConfiguration)
+        .build();
+    while (!hand.isFinished()) {
+      final Hand current = hand;
+      hand = hand.onCurrentRound(round -> playRound(current, round));
+    }
+    return hand;
+  }
+
+  // the whole street is played on the round, the hand is copied once per street
+  private BettingRound playRound(Hand hand, BettingRound round) {
+    BettingRound current = round;
+    while (!current.isFinished()) {
+      final Player player = current.turn().orElseThrow();
+      final BettingRound next = strategies[seats.indexOf(player)].act(hand, current, player);
+      if (next == current) {
+        throw new StrategyDidNotActException("Strategy of " + player + " did not play");
+      }
+      current = next;
+    }
+    return current;
+  }
+
+  private long handsOfSlice(int slice) {
+    final long share = hands / slices;
+    return slice < hands % slices ? share + 1 : share;
+  }
+
+  private void assertIsValid() {
+    if (strategies.length < MIN_PLAYERS || strategies.length > MAX_PLAYERS) {
+      throw new IllegalArgumentException("Expected " + MIN_PLAYERS + " to " + MAX_PLAYERS
+          + " strategies, got " + strategies.length);
+    }
+    if (startingStack < blindConfiguration.bigBlind().value()) {
+      throw new IllegalArgumentException("Starting stack " + startingStack
+          + " does not cover the big blind " + blindConfiguration.bigBlind().value());
+    }
+    if (hands < 0) {
+      throw new IllegalArgumentException("Number of hands must not be negative, got " + hands);
+    }
+  }
+
+  private static List<Player> createPlayers(int numberOfPlayers) {
+    final List<Player> players = new ArrayList<>(numberOfPlayers);
+    for (int i = 1; i <= numberOfPlayers; i++) {
+      players.add(new Player(Integer.toString(i)));
+    }
+    return players;
+  }
+
+  private static List<List<Player>> createSeatings(Seats seats) {
+    final List<List<Player>> seatings = new ArrayList<>(seats.size());
+    for (int first = 0; first < seats.size(); first++) {
+      final List<Player> seating = new ArrayList<>(seats.size());
+      for (int i = 0; i < seats.size(); i++) {
+        seating.add(seats.at((first + i) % seats.size()));
+      }
+      seatings.add(List.copyOf(seating));
+    }
+    return List.copyOf(seatings);
+  }
+
+  private static Stacks createStacks(Seats seats, long startingStack) {
+    final var builder = Stacks.newBuilder();
+    seats.players().forEach(player -> builder.of(player).is(startingStack));
+    return builder.build();
+  }
+
+  private final class SimulationTask extends RecursiveTask<SimulationTally> {
+
+    private final int fromSlice;
+    private final int toSlice;
+    private final SplittableRandom random;
+
+    private SimulationTask(int fromSlice, int toSlice, SplittableRandom random) {
+      this.fromSlice = fromSlice;
+      this.toSlice = toSlice;
+      this.random = random;
+    }
+
+    @Override
+    protected SimulationTally compute() {
+      if (toSlice - fromSlice > 1) {
+        final int middle = (fromSlice + toSlice) >>> 1;
+        final var left = new SimulationTask(fromSlice, middle, random.split());
+        final var right = new SimulationTask(middle, toSlice, random);
+        left.fork();
+        final SimulationTally rightTally = right.compute();
+        return rightTally.add(left.join());
+      } else {
+        return simulate(handsOfSlice(fromSlice));
+      }
+    }
+
+    // the deck of the slice is reshuffled in place for every hand
+    private SimulationTally simulate(long count) {
+      final var tally = new SimulationTally(seats, startingStack);
+      final Card[] cards = new Card[Card.NUMBER_OF_CARDS];
+      for (int index = 0; index < cards.length; index++) {
+        cards[index] = Card.fromIndex(index);
+      }
+      final List<Card> deckCards = Arrays.asList(cards);
+      for (long i = 0; i < count; i++) {
+        shuffle(cards);
+        final var seating = seatings.get((int) (i % seatings.size()));
+        tally.record(playHand(seating, deckCards));
+      }
+      return tally;
+    }
+
+    private void shuffle(Card[] cards) {
+      for (int i = cards.length - 1; i > 0; i--) {
+        final int j = random.nextInt(i + 1);
+        final Card swap = cards[i];
+        cards[i] = cards[j];
+        cards[j] = swap;
+      }
+    }
+  }
+
+  public static class Builder {
+
+    private final List<Strategy> strategies;
+    private long startingStack;
+    private long smallBlind;
+    private long hands;
+    private ForkJoinPool pool;
+    private long seed;
+
+    private Builder() {
+      this.strategies = new ArrayList<>();
+      this.startingStack = 10_000;
+      this.smallBlind = 10;
+      this.hands = 100_000;
+      this.pool = ForkJoinPool.commonPool();
+      this.seed = System.nanoTime();
+    }
+
+    public HandSimulator build() {
+      return new HandSimulator(this);
+    }
+
+    // one player per strategy, seated in the order of the strategies
+    public Builder strategies(Strategy... strategies) {
+      this.strategies.addAll(Arrays.asList(strategies));
+      return this;
+    }
+
+    public Builder startingStack(long startingStack) {
+      this.startingStack = startingStack;
+      return this;
+    }
+
+    public Builder smallBlind(long smallBlind) {
+      this.smallBlind = smallBlind;
+      return this;
+    }
+
+    public Builder hands(long hands) {
+      this.hands = hands;
+      return this;
+    }
+
+    public Builder pool(ForkJoinPool pool) {
+      this.pool = pool;
+      return this;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+  }
+
+  public static class StrategyDidNotActException extends RuntimeException {
+
+    public StrategyDidNotActException(String message) {
+      super(message);
+    }
+  }
+}
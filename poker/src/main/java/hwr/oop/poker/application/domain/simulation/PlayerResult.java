@@ -0,0 +1,15 @@
+package hwr.oop.poker.application.domain.simulation;
+
+import hwr.oop.poker.application.domain.Player;
+
+// net chips are summed over all hands, every hand starts from the same stacks
+public record PlayerResult(Player player, long handsPlayed, long handsWon, long netChips) {
+
+  public double winRate() {
+    return handsPlayed == 0 ? 0.0 : (double) handsWon / handsPlayed;
+  }
+
+  public double netChipsPerHand() {
+    return handsPlayed == 0 ? 0.0 : (double) netChips / handsPlayed;
+  }
+}
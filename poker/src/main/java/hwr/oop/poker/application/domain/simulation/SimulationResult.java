@@ -0,0 +1,33 @@
+package hwr.oop.poker.application.domain.simulation;
+
+import java.time.Duration;
+import java.util.List;
+
+public record SimulationResult(long hands, long showDowns, List<PlayerResult> players,
+                               Duration elapsed) {
+
+  public SimulationResult {
+    players = List.copyOf(players);
+  }
+
+  public double handsPerSecond() {
+    final long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0.0 : hands * 1e9 / nanos;
+  }
+
+  public double showDownRate() {
+    return hands == 0 ? 0.0 : (double) showDowns / hands;
+  }
+
+  @Override
+  public String toString() {
+    final var builder = new StringBuilder(String.format(
+        "SimulationResult{hands=%d, handsPerSecond=%.0f, showDowns=%.4f, elapsed=%s",
+        hands, handsPerSecond(), showDownRate(), elapsed));
+    for (PlayerResult player : players) {
+      builder.append(String.format(", %s: win=%.4f, net=%d",
+          player.player(), player.winRate(), player.netChips()));
+    }
+    return builder.append('}').toString();
+  }
+}
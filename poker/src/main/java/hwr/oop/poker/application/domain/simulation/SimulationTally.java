@@ -0,0 +1,58 @@
+package hwr.oop.poker.application.domain.simulation;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Seats;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+final class SimulationTally {
+
+  // indexed by the seats of the simulator, not by the rotated seats of a hand
+  private final Seats seats;
+  private final long startingStack;
+  private final long[] handsWon;
+  private final long[] netChips;
+  private long hands;
+  private long showDowns;
+
+  SimulationTally(Seats seats, long startingStack) {
+    this.seats = seats;
+    this.startingStack = startingStack;
+    this.handsWon = new long[seats.size()];
+    this.netChips = new long[seats.size()];
+  }
+
+  void record(Hand finishedHand) {
+    final var finalStacks = finishedHand.finalStacks().orElseThrow();
+    for (int seat = 0; seat < netChips.length; seat++) {
+      final long net = finalStacks.chipsOf(seats.at(seat)) - startingStack;
+      netChips[seat] += net;
+      if (net > 0) {
+        handsWon[seat]++;
+      }
+    }
+    hands++;
+    if (finishedHand.remainingPlayers().size() > 1) {
+      showDowns++;
+    }
+  }
+
+  SimulationTally add(SimulationTally other) {
+    for (int seat = 0; seat < netChips.length; seat++) {
+      handsWon[seat] += other.handsWon[seat];
+      netChips[seat] += other.netChips[seat];
+    }
+    hands += other.hands;
+    showDowns += other.showDowns;
+    return this;
+  }
+
+  SimulationResult toResult(Duration elapsed) {
+    final List<PlayerResult> players = new ArrayList<>(seats.size());
+    for (int seat = 0; seat < netChips.length; seat++) {
+      players.add(new PlayerResult(seats.at(seat), hands, handsWon[seat], netChips[seat]));
+    }
+    return new SimulationResult(hands, showDowns, players, elapsed);
+  }
+}
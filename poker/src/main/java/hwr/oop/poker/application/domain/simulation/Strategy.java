@@ -0,0 +1,48 @@
+package hwr.oop.poker.application.domain.simulation;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+
+// plays exactly once for the player to act, the hand is the one the round belongs to
+@FunctionalInterface
+public interface Strategy {
+
+  BettingRound act(Hand hand, BettingRound round, Player player);
+
+  // checks or calls, goes all-in if the call is more than the stack
+  static Strategy passive() {
+    return (hand, round, player) -> {
+      final var actions = round.legalActions();
+      if (actions.canCheck()) {
+        return round.with(player).check();
+      } else if (actions.canCall()) {
+        return round.with(player).call();
+      } else {
+        return round.with(player).allIn();
+      }
+    };
+  }
+
+  // never puts chips in voluntarily
+  static Strategy checkOrFold() {
+    return (hand, round, player) -> round.legalActions().canCheck()
+        ? round.with(player).check()
+        : round.with(player).fold();
+  }
+
+  // raises the minimum whenever it may and bets the big blind into unopened rounds
+  static Strategy aggressive() {
+    return (hand, round, player) -> {
+      final var actions = round.legalActions();
+      if (actions.canRaise()) {
+        return round.with(player).raiseTo(actions.minimum().value());
+      } else if (actions.canBet()) {
+        final long bigBlind = hand.blindConfiguration().bigBlind().value();
+        return round.with(player).bet(Math.min(bigBlind, actions.maximum().value()));
+      } else {
+        return passive().act(hand, round, player);
+      }
+    };
+  }
+}
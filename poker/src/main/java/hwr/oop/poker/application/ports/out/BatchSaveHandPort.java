@@ -0,0 +1,11 @@
+package hwr.oop.poker.application.ports.out;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import java.util.Map;
+
+// saves several hands at once and makes them durable before returning
+public interface BatchSaveHandPort extends SaveHandPort {
+
+  void saveHands(Map<HandId, Hand> hands);
+}
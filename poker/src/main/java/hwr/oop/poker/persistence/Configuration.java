@@ -2,23 +2,37 @@ package hwr.oop.poker.persistence;
 
 import java.nio.file.Path;
 
-public record Configuration(Path csvFilePath) {
+public record Configuration(Path csvFilePath, Path indexFilePath) {
+
+  private static final String INDEX_SUFFIX = ".idx";
 
   public static class Builder {
 
     private Path csvFilePath;
+    private Path indexFilePath;
 
     Builder() {
       this.csvFilePath = null;
+      this.indexFilePath = null;
     }
 
     public Configuration build() {
-      return new Configuration(csvFilePath);
+      if (indexFilePath == null && csvFilePath != null) {
+        // next to the csv file unless configured otherwise
+        final var name = csvFilePath.getFileName() + INDEX_SUFFIX;
+        return new Configuration(csvFilePath, csvFilePath.resolveSibling(name));
+      }
+      return new Configuration(csvFilePath, indexFilePath);
     }
 
     public Builder csvFile(Path path) {
       this.csvFilePath = path;
       return this;
     }
+
+    public Builder indexFile(Path path) {
+      this.indexFilePath = path;
+      return this;
+    }
   }
 }
@@ -0,0 +1,174 @@
+package hwr.oop.poker.persistence;
+
+import hwr.oop.poker.application.domain.HandId;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// maps each hand id to the bytes of its row in the csv file, one "id;offset;length" line per
+// saved row with later lines winning, writes are serialised by the adapter
+final class CsvFileIndex {
+
+  private static final String SEPARATOR = ";";
+  private static final int PARTS = 3;
+
+  private final Path csvFile;
+  private final Path indexFile;
+  private final Map<String, Entry> entries;
+  private long end;
+
+  static CsvFileIndex openFor(Configuration configuration) {
+    final var index = new CsvFileIndex(configuration);
+    try {
+      if (!index.load()) {
+        index.rebuild();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return index;
+  }
+
+  private CsvFileIndex(Configuration configuration) {
+    this.csvFile = configuration.csvFilePath();
+    this.indexFile = configuration.indexFilePath();
+    this.entries = new ConcurrentHashMap<>();
+    this.end = 0;
+  }
+
+  Optional<Entry> lookup(HandId id) {
+    return Optional.ofNullable(entries.get(id.value()));
+  }
+
+  // one append to the index file for all rows of a batch
+  void addAll(Map<HandId, Entry> added) {
+    final var lines = new StringBuilder();
+    added.forEach((id, entry) -> lines.append(id.value())
+        .append(SEPARATOR).append(entry.offset())
+        .append(SEPARATOR).append(entry.length())
+        .append(System.lineSeparator()));
+    try {
+      Files.writeString(indexFile, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    added.forEach((id, entry) -> put(id.value(), entry));
+  }
+
+  // an index is only trusted if it ends exactly where the csv file ends and its last entry
+  // points at a row of that id, an index of another csv file of the same size does not
+  private boolean load() throws IOException {
+    if (!Files.exists(indexFile)) {
+      return false;
+    }
+    final List<String> lines = Files.readAllLines(indexFile);
+    String lastId = null;
+    Entry lastEntry = null;
+    for (String line : lines) {
+      final String[] parts = line.split(SEPARATOR);
+      if (parts.length != PARTS) {
+        return false;
+      }
+      try {
+        lastId = parts[0];
+        lastEntry = new Entry(Long.parseLong(parts[1]), Integer.parseInt(parts[2]));
+      } catch (NumberFormatException e) {
+        return false;
+      }
+      put(lastId, lastEntry);
+    }
+    return end == sizeOfCsvFile() && (lastEntry == null || rowStartsWith(lastId, lastEntry));
+  }
+
+  private boolean rowStartsWith(String id, Entry entry) throws IOException {
+    final byte[] expected = (id + SEPARATOR).getBytes(StandardCharsets.UTF_8);
+    if (entry.length() < expected.length) {
+      return false;
+    }
+    final var buffer = ByteBuffer.allocate(expected.length);
+    try (var channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+      int read = 0;
+      while (buffer.hasRemaining() && read >= 0) {
+        read = channel.read(buffer, entry.offset() + buffer.position());
+      }
+    }
+    return Arrays.equals(buffer.array(), expected);
+  }
+
+  private void rebuild() throws IOException {
+    entries.clear();
+    end = 0;
+    if (!Files.exists(csvFile)) {
+      Files.deleteIfExists(indexFile);
+      return;
+    }
+    scanCsvFile();
+    // in file order, so the last line is the last row like after appends
+    final var content = new StringBuilder();
+    entries.entrySet().stream()
+        .sorted(Comparator.comparingLong(entry -> entry.getValue().offset()))
+        .forEach(entry -> content.append(entry.getKey())
+            .append(SEPARATOR).append(entry.getValue().offset())
+            .append(SEPARATOR).append(entry.getValue().length())
+            .append(System.lineSeparator()));
+    Files.writeString(indexFile, content);
+  }
+
+  // one pass over the bytes, the id of a row is everything before its first separator
+  private void scanCsvFile() throws IOException {
+    try (var in = new BufferedInputStream(Files.newInputStream(csvFile))) {
+      final var id = new ByteArrayOutputStream();
+      boolean inId = true;
+      long offset = 0;
+      long rowStart = 0;
+      int next;
+      while ((next = in.read()) != -1) {
+        offset++;
+        if (next == '\n') {
+          addScanned(id, inId, rowStart, offset);
+          id.reset();
+          inId = true;
+          rowStart = offset;
+        } else if (next == SEPARATOR.charAt(0)) {
+          inId = false;
+        } else if (inId) {
+          id.write(next);
+        }
+      }
+      addScanned(id, inId, rowStart, offset);
+    }
+  }
+
+  private void addScanned(ByteArrayOutputStream id, boolean inId, long rowStart, long rowEnd) {
+    if (!inId) {
+      put(id.toString(StandardCharsets.UTF_8), new Entry(rowStart, (int) (rowEnd - rowStart)));
+    }
+  }
+
+  private void put(String id, Entry entry) {
+    entries.put(id, entry);
+    end = Math.max(end, entry.offset() + entry.length());
+  }
+
+  private long sizeOfCsvFile() throws IOException {
+    return Files.exists(csvFile) ? Files.size(csvFile) : 0;
+  }
+
+  // length includes the line break of the row
+  record Entry(long offset, int length) {
+
+  }
+}
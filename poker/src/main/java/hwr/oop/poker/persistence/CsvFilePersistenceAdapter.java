@@ -2,54 +2,118 @@ package hwr.oop.poker.persistence;
 
 import hwr.oop.poker.application.domain.Hand;
 import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.ports.out.BatchSaveHandPort;
 import hwr.oop.poker.application.ports.out.CouldNotLoadHandException;
 import hwr.oop.poker.application.ports.out.LoadHandPort;
-import hwr.oop.poker.application.ports.out.SaveHandPort;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.util.Optional;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
-public class CsvFilePersistenceAdapter implements LoadHandPort, SaveHandPort {
+public class CsvFilePersistenceAdapter implements LoadHandPort, BatchSaveHandPort {
 
   private final Configuration configuration;
+  private final CsvFileIndex index;
+  private final ReentrantLock lock;
 
   public CsvFilePersistenceAdapter(Configuration configuration) {
     this.configuration = configuration;
+    this.index = CsvFileIndex.openFor(configuration);
+    this.lock = new ReentrantLock();
   }
 
   public static Configuration.Builder newConfigBuilder() {
     return new Configuration.Builder();
   }
 
+  // rows are never moved or rewritten, so loads do not wait for saves
   @Override
   public Hand loadById(HandId id) {
-    final var match = searchFileForId(id);
-    if (match.isPresent()) {
-      final var row = match.get();
-      final var csv = CsvRow.fromString(row);
-      return csv.toHand();
-    } else {
-      throw new CouldNotLoadHandException("id is not available, " + id);
-    }
+    final var entry = index.lookup(id)
+        .orElseThrow(() -> new CouldNotLoadHandException("id is not available, " + id));
+    final var csv = CsvRow.fromString(readRow(entry, id));
+    return csv.toHand();
   }
 
+  // every save appends a new version of the row, the index points at the latest one
   @Override
   public void saveHand(HandId id, Hand hand) {
-    try (final var writer = Files.newBufferedWriter(configuration.csvFilePath())) {
-      writer.append(CsvRow.fromHand(hand, id).toString());
+    append(Map.of(id, hand), false);
+  }
+
+  // all rows in one write followed by one force, see WriteBehindPersistenceAdapter
+  @Override
+  public void saveHands(Map<HandId, Hand> hands) {
+    append(hands, true);
+  }
+
+  private void append(Map<HandId, Hand> hands, boolean force) {
+    final var rows = new ByteArrayOutputStream();
+    final Map<HandId, CsvFileIndex.Entry> entries = new LinkedHashMap<>();
+    hands.forEach((id, hand) -> {
+      final var row = CsvRow.fromHand(hand, id) + System.lineSeparator();
+      final byte[] bytes = row.getBytes(StandardCharsets.UTF_8);
+      entries.put(id, new CsvFileIndex.Entry(rows.size(), bytes.length));
+      rows.writeBytes(bytes);
+    });
+    lock.lock();
+    try (var channel = FileChannel.open(configuration.csvFilePath(), StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final long offset = startOfNextRow(channel);
+      write(channel, ByteBuffer.wrap(rows.toByteArray()), offset);
+      if (force) {
+        channel.force(false);
+      }
+      entries.replaceAll((id, entry) ->
+          new CsvFileIndex.Entry(offset + entry.offset(), entry.length()));
+      index.addAll(entries);
     } catch (IOException e) {
       throw new RuntimeException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // a file written by hand may end without a line break
+  private static long startOfNextRow(FileChannel channel) throws IOException {
+    final long size = channel.size();
+    if (size == 0) {
+      return 0;
     }
+    final var last = ByteBuffer.allocate(1);
+    channel.read(last, size - 1);
+    if (last.get(0) == '\n') {
+      return size;
+    }
+    final var lineBreak = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    write(channel, ByteBuffer.wrap(lineBreak), size);
+    return size + lineBreak.length;
   }
 
-  private Optional<String> searchFileForId(HandId id) {
-    final var file = configuration.csvFilePath();
-    try (var stuff = Files.newBufferedReader(file)) {
-      return stuff.lines()
-          .filter(l -> l.startsWith(id.value()))
-          .findFirst();
-    } catch (Exception e) {
+  private static void write(FileChannel channel, ByteBuffer buffer, long offset)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, offset + buffer.position());
+    }
+  }
+
+  // one positional read of exactly the indexed bytes
+  private String readRow(CsvFileIndex.Entry entry, HandId id) {
+    final var buffer = ByteBuffer.allocate(entry.length());
+    try (var channel = FileChannel.open(configuration.csvFilePath(), StandardOpenOption.READ)) {
+      int read = 0;
+      while (buffer.hasRemaining() && read >= 0) {
+        read = channel.read(buffer, entry.offset() + buffer.position());
+      }
+    } catch (IOException e) {
       throw new CouldNotLoadHandException("idString is not available, " + id);
     }
+    return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8)
+        .stripTrailing();
   }
 }
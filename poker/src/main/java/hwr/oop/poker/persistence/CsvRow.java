@@ -4,9 +4,11 @@ import hwr.oop.poker.application.domain.Converter;
 import hwr.oop.poker.application.domain.Deck;
 import hwr.oop.poker.application.domain.Hand;
 import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.domain.HandMemento;
 import hwr.oop.poker.application.domain.Player;
 import hwr.oop.poker.application.domain.Stacks;
 import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.betting.Play;
 import hwr.oop.poker.application.domain.betting.Play.Type;
 import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
 import hwr.oop.poker.application.domain.blinds.SmallBlind;
@@ -20,7 +22,15 @@ import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 public record CsvRow(String idString, String playersAndStacks, String smallBlindString,
-                     String deckString, String playsString) {
+                     String deckString, String playsString, String snapshotString) {
+
+  // small and big blind, they are posted by the hand and not part of the plays column
+  private static final int BLIND_PLAYS = 2;
+
+  public CsvRow(String idString, String playersAndStacks, String smallBlindString,
+      String deckString, String playsString) {
+    this(idString, playersAndStacks, smallBlindString, deckString, playsString, "");
+  }
 
   public static CsvRow fromHand(Hand hand, HandId handId) {
     final var memento = hand.restoreMemento();
@@ -57,7 +67,11 @@ public record CsvRow(String idString, String playersAndStacks, String smallBlind
           return player.id() + "-" + suffix;
         }).reduce((a, b) -> a + "," + b).orElseThrow();
 
-    return new CsvRow(handId.value(), stackString, smallBlindString, deckString, handString);
+    // snapshot of the current street, lets loading skip the earlier ones
+    final var snapshotString = hand.snapshot().map(CsvSnapshot::format).orElse("");
+
+    return new CsvRow(handId.value(), stackString, smallBlindString, deckString, handString,
+        snapshotString);
   }
 
   public static CsvRow fromHand(Hand hand) {
@@ -66,17 +80,24 @@ public record CsvRow(String idString, String playersAndStacks, String smallBlind
 
   public static CsvRow fromString(String row) {
     final var parts = Arrays.stream(row.split(";")).toList();
-    assert parts.size() == 5;
-    return new CsvRow(parts.get(0), parts.get(1), parts.get(2), parts.get(3), parts.get(4));
+    assert parts.size() == 5 || parts.size() == 6;
+    final var snapshotString = parts.size() == 6 ? parts.get(5) : "";
+    return new CsvRow(parts.get(0), parts.get(1), parts.get(2), parts.get(3), parts.get(4),
+        snapshotString);
   }
 
   @Override
   public String toString() {
-    return idString + ";" + playersAndStacks + ";" + smallBlindString + ";" + deckString + ";"
-        + playsString;
+    final var row = idString + ";" + playersAndStacks + ";" + smallBlindString + ";" + deckString
+        + ";" + playsString;
+    return snapshotString.isEmpty() ? row : row + ";" + snapshotString;
   }
 
   public Hand toHand() {
+    return toHand(Replay.TRUSTED);
+  }
+
+  public Hand toHand(Replay replay) {
     // parse players and stacks
     final var builder = Stacks.newBuilder();
     final List<Player> mutableList = new ArrayList<>();
@@ -97,11 +118,7 @@ public record CsvRow(String idString, String playersAndStacks, String smallBlind
     // parse blind configuration
     final BlindConfiguration blindConfiguration = parseBlinds();
 
-    // parse plays
-    final List<UnaryOperator<BettingRound>> plays = Arrays.stream(playsString.split(","))
-        .map(s -> Arrays.stream(s.split("-")).toList()).map(this::parsePlayFunction).toList();
-
-    return createHand(stacks, players, deck, blindConfiguration, plays);
+    return createHand(stacks, players, deck, blindConfiguration, replay);
   }
 
   private BlindConfiguration parseBlinds() {
@@ -117,15 +134,67 @@ public record CsvRow(String idString, String playersAndStacks, String smallBlind
   }
 
   private Hand createHand(Stacks stacks, List<Player> players, Deck deck,
-      BlindConfiguration blindConfiguration, List<UnaryOperator<BettingRound>> plays) {
+      BlindConfiguration blindConfiguration, Replay replay) {
+    if (replay == Replay.TRUSTED && !snapshotString.isEmpty()) {
+      final var snapshot = CsvSnapshot.parse(snapshotString, players);
+      final var memento = new HandMemento(deck, players, blindConfiguration, stacks);
+      final int covered = snapshot.settledPlays() - BLIND_PLAYS;
+      final var trailingPlays = parsePlays(trailingPlayStrings(covered));
+      return Hand.restore(memento, snapshot,
+              () -> settledPlays(stacks, players, blindConfiguration, covered))
+          .replay(trailingPlays);
+    }
+    final var plays = parsePlays(playsString.split(","));
     var hand = Hand.newBuilder().deck(deck).players(players).stacks(stacks)
         .blindConfiguration(blindConfiguration).build();
+    if (replay == Replay.TRUSTED) {
+      return hand.replay(plays);
+    }
     for (UnaryOperator<BettingRound> play : plays) {
       hand = hand.onCurrentRound(play);
     }
     return hand;
   }
 
+  // the history before the snapshot, replayed on a fresh deck only when it is asked for
+  private List<Play> settledPlays(Stacks stacks, List<Player> players,
+      BlindConfiguration blindConfiguration, int covered) {
+    final var settledPlayStrings = Arrays.copyOf(playsString.split(","), covered);
+    return Hand.newBuilder().deck(parseDeck()).players(players).stacks(stacks)
+        .blindConfiguration(blindConfiguration).build()
+        .replay(parsePlays(settledPlayStrings))
+        .plays()
+        .toList();
+  }
+
+  // skips the covered plays by their separators, without parsing or splitting them
+  private String[] trailingPlayStrings(int covered) {
+    if (covered < 0) {
+      throw new IllegalArgumentException("Snapshot covers fewer plays than the blinds: "
+          + snapshotString);
+    }
+    int start = 0;
+    for (int play = 0; play < covered; play++) {
+      final int separator = playsString.indexOf(',', start);
+      if (separator >= 0) {
+        start = separator + 1;
+      } else if (play == covered - 1) {
+        start = playsString.length();
+      } else {
+        throw new IllegalArgumentException("Snapshot covers more plays than the row holds: "
+            + snapshotString);
+      }
+    }
+    return start == playsString.length()
+        ? new String[0]
+        : playsString.substring(start).split(",");
+  }
+
+  private List<UnaryOperator<BettingRound>> parsePlays(String[] playStrings) {
+    return Arrays.stream(playStrings)
+        .map(s -> Arrays.stream(s.split("-")).toList()).map(this::parsePlayFunction).toList();
+  }
+
   private UnaryOperator<BettingRound> parsePlayFunction(List<String> s) {
     final var playerId = s.get(0);
     final var player = new Player(playerId);
@@ -144,18 +213,48 @@ public record CsvRow(String idString, String playersAndStacks, String smallBlind
         yield r -> r.with(player).bet(betTo);
       }
       case FOLD -> r -> r.with(player).fold();
-      case CALL -> r -> r.with(player).call();
+      case CALL -> r -> callOrShortAllIn(r, player);
       case RAISE -> {
         final var raiseToString = third.get();
         final var raiseTo = Long.parseLong(raiseToString);
-        yield r -> r.with(player).raiseTo(raiseTo);
+        yield r -> raiseOrShortAllIn(r, player, raiseTo);
       }
       case CHECK -> r -> r.with(player).check();
       default -> throw buildException(player, playId);
     };
   }
 
+  // all-ins below the call or the minimum raise are stored as plain calls and raises
+  private static BettingRound callOrShortAllIn(BettingRound round, Player player) {
+    final long target = round.lastTargetValueIncreasingPlay()
+        .map(play -> play.totalChipValue().value())
+        .orElse(0L);
+    final long callAmount = target - round.chipsPutIntoPotBy(player).value();
+    if (round.remainingChips(player).value() < callAmount) {
+      return round.with(player).allIn();
+    }
+    return round.with(player).call();
+  }
+
+  // allIn picks a full raise or a short one from the player's chips
+  private static BettingRound raiseOrShortAllIn(BettingRound round, Player player,
+      long raiseTo) {
+    final long allChips = round.chipsPutIntoPotBy(player).value()
+        + round.remainingChips(player).value();
+    if (raiseTo == allChips) {
+      return round.with(player).allIn();
+    }
+    return round.with(player).raiseTo(raiseTo);
+  }
+
   private RuntimeException buildException(Player player, String playId) {
     return new IllegalArgumentException("Could not parse: " + playId + ", for player: " + player);
   }
+
+  // TRUSTED restores the snapshot if there is one and replays only the plays after it on one
+  // hand, VALIDATED ignores the snapshot and builds every intermediate hand
+  public enum Replay {
+    TRUSTED,
+    VALIDATED
+  }
 }
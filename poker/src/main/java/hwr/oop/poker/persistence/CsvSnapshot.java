@@ -0,0 +1,72 @@
+package hwr.oop.poker.persistence;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.HandSnapshot;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.betting.positions.RoundPosition;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// position|contributions by seat|remaining players|community cards|plays covered, the plays
+// include both blinds, e.g. 2|24,24,2|1,2|KS,KD,KH,2C|7
+final class CsvSnapshot {
+
+  private static final String FIELD_SEPARATOR = "|";
+  // escaped once, splitting on it stays on String#split's fast path
+  private static final String FIELD_SEPARATOR_REGEX = "\\|";
+  private static final String LIST_SEPARATOR = ",";
+  private static final int NUMBER_OF_FIELDS = 5;
+
+  private CsvSnapshot() {
+    // static helpers only
+  }
+
+  static String format(HandSnapshot snapshot) {
+    final var contributions = new StringJoiner(LIST_SEPARATOR);
+    snapshot.contributions().forEach(contribution -> contributions.add(contribution.toString()));
+    final var players = new StringJoiner(LIST_SEPARATOR);
+    snapshot.players().forEach(player -> players.add(player.id()));
+    final var cards = new StringJoiner(LIST_SEPARATOR);
+    snapshot.communityCards().forEach(card -> cards.add(
+        card.symbol().stringRepresentation() + card.color().stringRepresentation()));
+    return String.join(FIELD_SEPARATOR, Integer.toString(snapshot.position().position()),
+        contributions.toString(), players.toString(), cards.toString(),
+        Integer.toString(snapshot.settledPlays()));
+  }
+
+  static HandSnapshot parse(String snapshotString, List<Player> seatedPlayers) {
+    final String[] fields = snapshotString.split(FIELD_SEPARATOR_REGEX, -1);
+    if (fields.length != NUMBER_OF_FIELDS) {
+      throw new IllegalArgumentException("Could not parse snapshot: " + snapshotString);
+    }
+    final Map<String, Player> playersById = new HashMap<>();
+    seatedPlayers.forEach(player -> playersById.put(player.id(), player));
+    final var position = RoundPosition.of(Integer.parseInt(fields[0]));
+    final List<Long> contributions = new ArrayList<>();
+    for (String contribution : split(fields[1])) {
+      contributions.add(Long.parseLong(contribution));
+    }
+    final List<Player> players = new ArrayList<>();
+    for (String id : split(fields[2])) {
+      players.add(playerOf(playersById, id));
+    }
+    final var cards = Converter.create().convert(fields[3]);
+    final int settledPlays = Integer.parseInt(fields[4]);
+    return new HandSnapshot(position, contributions, players, cards, settledPlays);
+  }
+
+  private static Player playerOf(Map<String, Player> playersById, String id) {
+    final var player = playersById.get(id);
+    if (player == null) {
+      throw new IllegalArgumentException("Snapshot refers to unknown player: " + id);
+    }
+    return player;
+  }
+
+  private static String[] split(String list) {
+    return list.isEmpty() ? new String[0] : list.split(LIST_SEPARATOR);
+  }
+}
@@ -0,0 +1,52 @@
+package hwr.oop.poker.persistence;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.ports.out.CouldNotLoadHandException;
+import hwr.oop.poker.application.ports.out.LoadHandPort;
+import hwr.oop.poker.application.ports.out.SaveHandPort;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// keeps the active hands of a server, hands are immutable so no copies are needed
+public class InMemoryPersistenceAdapter implements LoadHandPort, SaveHandPort {
+
+  private final Map<HandId, Hand> hands;
+
+  public InMemoryPersistenceAdapter() {
+    this.hands = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public Hand loadById(HandId id) {
+    final var hand = hands.get(id);
+    if (hand == null) {
+      throw new CouldNotLoadHandException("id is not available, " + id);
+    }
+    return hand;
+  }
+
+  @Override
+  public void saveHand(HandId id, Hand hand) {
+    hands.put(id, hand);
+  }
+
+  public void removeById(HandId id) {
+    hands.remove(id);
+  }
+
+  // finished hands take no more plays, a hand saved again meanwhile is kept
+  public int removeFinishedHands() {
+    int removed = 0;
+    for (Map.Entry<HandId, Hand> entry : hands.entrySet()) {
+      if (entry.getValue().isFinished() && hands.remove(entry.getKey(), entry.getValue())) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  public int size() {
+    return hands.size();
+  }
+}
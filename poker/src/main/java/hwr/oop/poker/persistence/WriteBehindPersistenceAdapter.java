@@ -0,0 +1,272 @@
+package hwr.oop.poker.persistence;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.ports.out.BatchSaveHandPort;
+import hwr.oop.poker.application.ports.out.LoadHandPort;
+import hwr.oop.poker.application.ports.out.SaveHandPort;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// queues saves and writes them in batches on one writer thread, one force per batch; versions
+// of one hand saved before their batch is written are coalesced into the latest one
+public class WriteBehindPersistenceAdapter implements LoadHandPort, SaveHandPort, AutoCloseable {
+
+  private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(5);
+  private static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+  private final LoadHandPort loadHandPort;
+  private final BatchSaveHandPort batchSaveHandPort;
+  private final long flushIntervalNanos;
+  private final int maxBatchSize;
+  private final boolean syncOnCommit;
+  private final ReentrantLock lock;
+  private final Condition saved;
+  private final Condition batchTaken;
+  private final Thread writer;
+  private Batch pending;
+  private Batch inFlight;
+  private RuntimeException failure;
+  private boolean closed;
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private WriteBehindPersistenceAdapter(Builder builder) {
+    this.loadHandPort = Objects.requireNonNull(builder.loadHandPort);
+    this.batchSaveHandPort = Objects.requireNonNull(builder.batchSaveHandPort);
+    if (builder.flushInterval.isNegative() || builder.maxBatchSize < 1) {
+      throw new IllegalArgumentException("Flush interval must not be negative and batches "
+          + "must hold at least one hand, got " + builder.flushInterval + " and "
+          + builder.maxBatchSize);
+    }
+    this.flushIntervalNanos = builder.flushInterval.toNanos();
+    this.maxBatchSize = builder.maxBatchSize;
+    this.syncOnCommit = builder.syncOnCommit;
+    this.lock = new ReentrantLock();
+    this.saved = lock.newCondition();
+    this.batchTaken = lock.newCondition();
+    this.pending = new Batch();
+    this.inFlight = null;
+    this.failure = null;
+    this.closed = false;
+    this.writer = Thread.ofPlatform().name("hand-writer").daemon().start(this::writeBatches);
+  }
+
+  // hands that are not written yet are served from the queue
+  @Override
+  public Hand loadById(HandId id) {
+    lock.lock();
+    try {
+      final Hand queued = pending.hands.get(id);
+      if (queued != null) {
+        return queued;
+      }
+      if (inFlight != null && inFlight.hands.containsKey(id)) {
+        return inFlight.hands.get(id);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return loadHandPort.loadById(id);
+  }
+
+  @Override
+  public void saveHand(HandId id, Hand hand) {
+    final CompletableFuture<Void> committed;
+    lock.lock();
+    try {
+      // a full batch holds back new hands until the writer takes it, new versions still fit
+      while (!closed && failure == null && pending.hands.size() >= maxBatchSize
+          && !pending.hands.containsKey(id)) {
+        batchTaken.awaitUninterruptibly();
+      }
+      if (closed) {
+        throw new IllegalStateException("Write-behind persistence is closed, could not save "
+            + id);
+      }
+      if (failure != null) {
+        throw new CouldNotSaveHandsException("An earlier batch failed, could not save " + id,
+            failure);
+      }
+      pending.hands.put(id, hand);
+      committed = pending.committed;
+      saved.signal();
+    } finally {
+      lock.unlock();
+    }
+    if (syncOnCommit) {
+      awaitCommit(committed, id);
+    }
+  }
+
+  // writes the queued hands and stops the writer
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      closed = true;
+      saved.signalAll();
+      batchTaken.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while writing the queued hands", e);
+    }
+    lock.lock();
+    try {
+      if (failure != null) {
+        throw new CouldNotSaveHandsException("Queued hands could not be saved", failure);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void writeBatches() {
+    Batch batch = nextBatch();
+    while (batch != null) {
+      try {
+        batchSaveHandPort.saveHands(batch.hands);
+        batch.committed.complete(null);
+      } catch (RuntimeException e) {
+        // recorded first, a save woken by the failed commit must already see it
+        failedWith(e);
+        batch.committed.completeExceptionally(e);
+      } finally {
+        lock.lock();
+        try {
+          inFlight = null;
+        } finally {
+          lock.unlock();
+        }
+      }
+      batch = nextBatch();
+    }
+  }
+
+  // waits for a first save, then gathers more for one flush interval or until the batch is full
+  private Batch nextBatch() {
+    lock.lock();
+    try {
+      while (pending.hands.isEmpty() && !closed) {
+        saved.awaitUninterruptibly();
+      }
+      long remainingNanos = flushIntervalNanos;
+      while (pending.hands.size() < maxBatchSize && !closed && remainingNanos > 0) {
+        try {
+          remainingNanos = saved.awaitNanos(remainingNanos);
+        } catch (InterruptedException e) {
+          // only close stops the writer, an interrupt just ends the wait for more saves
+          remainingNanos = 0;
+        }
+      }
+      if (pending.hands.isEmpty()) {
+        return null;
+      }
+      inFlight = pending;
+      pending = new Batch();
+      batchTaken.signalAll();
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void failedWith(RuntimeException e) {
+    lock.lock();
+    try {
+      failure = e;
+      batchTaken.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void awaitCommit(CompletableFuture<Void> committed, HandId id) {
+    try {
+      committed.join();
+    } catch (CompletionException e) {
+      throw new CouldNotSaveHandsException("Batch failed, could not save " + id, e.getCause());
+    }
+  }
+
+  private static final class Batch {
+
+    private final Map<HandId, Hand> hands;
+    private final CompletableFuture<Void> committed;
+
+    private Batch() {
+      this.hands = new LinkedHashMap<>();
+      this.committed = new CompletableFuture<>();
+    }
+  }
+
+  public static class Builder {
+
+    private LoadHandPort loadHandPort;
+    private BatchSaveHandPort batchSaveHandPort;
+    private Duration flushInterval;
+    private int maxBatchSize;
+    private boolean syncOnCommit;
+
+    private Builder() {
+      this.loadHandPort = null;
+      this.batchSaveHandPort = null;
+      this.flushInterval = DEFAULT_FLUSH_INTERVAL;
+      this.maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+      this.syncOnCommit = true;
+    }
+
+    public WriteBehindPersistenceAdapter build() {
+      return new WriteBehindPersistenceAdapter(this);
+    }
+
+    public Builder loadHandPort(LoadHandPort loadHandPort) {
+      this.loadHandPort = loadHandPort;
+      return this;
+    }
+
+    public Builder batchSaveHandPort(BatchSaveHandPort batchSaveHandPort) {
+      this.batchSaveHandPort = batchSaveHandPort;
+      return this;
+    }
+
+    // how long the writer waits for more saves after the first one of a batch
+    public Builder flushInterval(Duration flushInterval) {
+      this.flushInterval = flushInterval;
+      return this;
+    }
+
+    // a full batch is written at once, saves of further hands wait for the writer
+    public Builder maxBatchSize(int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    // true: saveHand returns once its batch is forced, false: it returns at once and the hand
+    // is forced about one flush interval later
+    public Builder syncOnCommit(boolean syncOnCommit) {
+      this.syncOnCommit = syncOnCommit;
+      return this;
+    }
+  }
+
+  public static class CouldNotSaveHandsException extends RuntimeException {
+
+    public CouldNotSaveHandsException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package hwr.oop.poker.server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// log-linear buckets, eight per power of two, so a percentile is at most 12.5% too high;
+// recording is a single atomic increment and never blocks the recording threads
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int NUMBER_OF_BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+  private final AtomicLongArray counts;
+
+  public LatencyHistogram() {
+    this.counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+  }
+
+  public void record(long nanos) {
+    counts.incrementAndGet(indexOf(Math.max(nanos, 0L)));
+  }
+
+  public long count() {
+    long count = 0L;
+    for (int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+      count += counts.get(index);
+    }
+    return count;
+  }
+
+  // upper bound of the bucket that holds the percentile, 0 without any recordings
+  public long percentile(double percentile) {
+    if (percentile <= 0.0 || percentile > 1.0) {
+      throw new IllegalArgumentException("Percentile must be in (0, 1], got " + percentile);
+    }
+    final long[] snapshot = new long[NUMBER_OF_BUCKETS];
+    long count = 0L;
+    for (int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+      snapshot[index] = counts.get(index);
+      count += snapshot[index];
+    }
+    final long rank = (long) Math.ceil(percentile * count);
+    long seen = 0L;
+    for (int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+      seen += snapshot[index];
+      if (seen >= rank && seen > 0) {
+        return upperBoundOf(index);
+      }
+    }
+    return 0L;
+  }
+
+  private static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    final int subBucket = (int) (value >>> shift) & SUB_BUCKETS - 1;
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  private static long upperBoundOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    final int shift = index / SUB_BUCKETS - 1;
+    final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+}
@@ -0,0 +1,30 @@
+package hwr.oop.poker.server;
+
+import hwr.oop.poker.application.CreateGameService;
+import hwr.oop.poker.application.GameActionService;
+import hwr.oop.poker.persistence.InMemoryPersistenceAdapter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class Main {
+
+  private static final int DEFAULT_PORT = 8080;
+  private static final long EVICTION_INTERVAL_MINUTES = 1;
+
+  public static void main(String... argv) {
+    final int port = argv.length > 0 ? Integer.parseInt(argv[0]) : DEFAULT_PORT;
+    final var persistence = new InMemoryPersistenceAdapter();
+    final var server = TableServer.newBuilder()
+        .port(port)
+        .createGameUseCase(new CreateGameService(persistence))
+        .gameActionUseCase(new GameActionService(persistence, persistence))
+        .loadHandPort(persistence)
+        .build()
+        .start();
+    // finished hands are dropped within one interval, a player's last play returns the result
+    final var evictor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+    evictor.scheduleWithFixedDelay(persistence::removeFinishedHands, EVICTION_INTERVAL_MINUTES,
+        EVICTION_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    System.out.println("Table server listening on port " + server.port());
+  }
+}
@@ -0,0 +1,325 @@
+package hwr.oop.poker.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Hand.PlayOnOnFinishedHandException;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Pots.InvalidPlayerForPotException;
+import hwr.oop.poker.application.domain.Stacks.InvalidPlayForStackException;
+import hwr.oop.poker.application.domain.Stacks.InvalidPlayerForStackException;
+import hwr.oop.poker.application.domain.betting.BettingRound.InvalidPlayOnStateException;
+import hwr.oop.poker.application.ports.in.CreateGameUseCase;
+import hwr.oop.poker.application.ports.in.GameActionUseCase;
+import hwr.oop.poker.application.ports.out.CouldNotLoadHandException;
+import hwr.oop.poker.application.ports.out.LoadHandPort;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// plain text over HTTP, every exchange runs on its own virtual thread:
+//   POST /hands/{id}        "smallBlind;player-stack,player-stack,..."  creates a new hand
+//   POST /hands/{id}/plays  "player;TYPE" or "player;TYPE;chips"       plays on the hand
+//   GET  /hands/{id}                                                    state of the hand
+//   GET  /metrics                                                       action latencies
+public class TableServer implements AutoCloseable {
+
+  private static final String HANDS_PATH = "/hands/";
+  private static final String PLAYS_PATH = "/plays";
+  private static final String METRICS_PATH = "/metrics";
+  private static final int BACKLOG = 4096;
+  private static final double MEDIAN = 0.5;
+  private static final double P99 = 0.99;
+  private static final long NANOS_PER_MICRO = 1_000L;
+  private static final int MIN_PLAYERS = 2;
+  // two hole cards each, the board and the burn cards come from one deck
+  private static final int MAX_PLAYERS = (Card.NUMBER_OF_CARDS - 8) / 2;
+  private static final Set<String> PLAY_TYPES = Set.of("CHECK", "CALL", "BET", "RAISE", "FOLD");
+
+  private final HttpServer httpServer;
+  private final ExecutorService executor;
+  private final CreateGameUseCase createGameUseCase;
+  private final GameActionUseCase gameActionUseCase;
+  private final LoadHandPort loadHandPort;
+  private final LatencyHistogram actionLatencies;
+  private final Set<HandId> handsBeingCreated;
+
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  private TableServer(Builder builder) throws IOException {
+    this.createGameUseCase = Objects.requireNonNull(builder.createGameUseCase);
+    this.gameActionUseCase = Objects.requireNonNull(builder.gameActionUseCase);
+    this.loadHandPort = Objects.requireNonNull(builder.loadHandPort);
+    this.actionLatencies = new LatencyHistogram();
+    this.handsBeingCreated = ConcurrentHashMap.newKeySet();
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.httpServer = HttpServer.create(new InetSocketAddress(builder.port), BACKLOG);
+    this.httpServer.setExecutor(executor);
+    this.httpServer.createContext(HANDS_PATH, this::handle);
+    this.httpServer.createContext(METRICS_PATH, this::handle);
+  }
+
+  public TableServer start() {
+    httpServer.start();
+    return this;
+  }
+
+  public int port() {
+    return httpServer.getAddress().getPort();
+  }
+
+  public LatencyHistogram actionLatencies() {
+    return actionLatencies;
+  }
+
+  @Override
+  public void close() {
+    httpServer.stop(0);
+    executor.close();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      final Response response = respondTo(exchange);
+      final byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+      exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+      if (body.length > 0) {
+        exchange.getResponseBody().write(body);
+      }
+    }
+  }
+
+  private Response respondTo(HttpExchange exchange) {
+    try {
+      return route(exchange);
+    } catch (BadRequestException e) {
+      return new Response(400, e.getMessage());
+    } catch (CouldNotLoadHandException e) {
+      return new Response(404, e.getMessage());
+    } catch (HandAlreadyExistsException | InvalidPlayOnStateException
+             | PlayOnOnFinishedHandException | InvalidPlayForStackException
+             | InvalidPlayerForStackException | InvalidPlayerForPotException e) {
+      // the domain rejected the play, e.g. wrong player or not enough chips
+      return new Response(409, e.getClass().getSimpleName() + ": " + e.getMessage());
+    } catch (RuntimeException e) {
+      return new Response(500, "Internal error: " + e.getClass().getSimpleName());
+    }
+  }
+
+  private Response route(HttpExchange exchange) {
+    final String path = exchange.getRequestURI().getPath();
+    final String method = exchange.getRequestMethod();
+    if (path.equals(METRICS_PATH) && method.equals("GET")) {
+      return new Response(200, metrics());
+    }
+    if (!path.startsWith(HANDS_PATH)) {
+      return new Response(404, "Unknown path " + path);
+    }
+    final String rest = path.substring(HANDS_PATH.length());
+    if (rest.endsWith(PLAYS_PATH) && method.equals("POST")) {
+      final var handId = handIdOf(rest.substring(0, rest.length() - PLAYS_PATH.length()));
+      return new Response(200, play(handId, bodyOf(exchange)));
+    } else if (method.equals("POST")) {
+      return new Response(201, create(handIdOf(rest), bodyOf(exchange)));
+    } else if (method.equals("GET")) {
+      return new Response(200, state(handIdOf(rest)));
+    } else {
+      return new Response(405, "Method " + method + " not allowed on " + path);
+    }
+  }
+
+  private String create(HandId handId, String body) {
+    final String[] parts = body.trim().split(";");
+    if (parts.length != 2) {
+      throw new BadRequestException("Expected smallBlind;player-stack,..., got " + body);
+    }
+    final Map<String, Integer> playersAndStacks = new LinkedHashMap<>();
+    for (String playerAndStack : parts[1].split(",")) {
+      final String[] values = playerAndStack.split("-");
+      if (values.length != 2) {
+        throw new BadRequestException("Expected player-stack, got " + playerAndStack);
+      }
+      playersAndStacks.put(values[0], parseNumber(values[1]));
+    }
+    if (playersAndStacks.size() < MIN_PLAYERS || playersAndStacks.size() > MAX_PLAYERS) {
+      throw new BadRequestException("Expected " + MIN_PLAYERS + " to " + MAX_PLAYERS
+          + " players, got " + playersAndStacks.size());
+    }
+    final var command = CreateGameUseCase.newCommandBuilder()
+        .gameId(handId.value())
+        .smallBlind(parseNumber(parts[0]))
+        .playersAndStacks(playersAndStacks)
+        .build();
+    // the id is claimed first, so of two concurrent creates only one can find it free
+    if (!handsBeingCreated.add(handId)) {
+      throw new HandAlreadyExistsException(handId);
+    }
+    try {
+      if (exists(handId)) {
+        throw new HandAlreadyExistsException(handId);
+      }
+      createGameUseCase.createGame(command);
+    } finally {
+      handsBeingCreated.remove(handId);
+    }
+    return state(handId);
+  }
+
+  private boolean exists(HandId handId) {
+    try {
+      loadHandPort.loadById(handId);
+      return true;
+    } catch (CouldNotLoadHandException e) {
+      return false;
+    }
+  }
+
+  private String play(HandId handId, String body) {
+    final String[] parts = body.trim().split(";");
+    if (parts.length < 2 || parts.length > 3) {
+      throw new BadRequestException("Expected player;TYPE or player;TYPE;chips, got " + body);
+    }
+    if (!PLAY_TYPES.contains(parts[1])) {
+      throw new BadRequestException("Expected one of " + PLAY_TYPES + ", got " + parts[1]);
+    }
+    final var command = GameActionUseCase.newCommandBuilder()
+        .handId(handId.value())
+        .playerId(parts[0])
+        .type(parts[1])
+        .toChips(parts.length == 3 ? parseNumber(parts[2]) : 0)
+        .build();
+    // the use case serialises the plays on one hand, plays on other hands do not wait
+    final long start = System.nanoTime();
+    try {
+      gameActionUseCase.gameAction(command);
+    } finally {
+      actionLatencies.record(System.nanoTime() - start);
+    }
+    return state(handId);
+  }
+
+  private String state(HandId handId) {
+    final Hand hand = loadHandPort.loadById(handId);
+    final var stacks = new StringJoiner(",");
+    for (Player player : hand.stacks().seats().players()) {
+      stacks.add(player.id() + "-" + hand.stacks().chipsOf(player));
+    }
+    return "hand=" + handId.value() + "\n"
+        + "finished=" + hand.isFinished() + "\n"
+        + "position=" + hand.currentPosition().position() + "\n"
+        + "turn=" + hand.playerToAct().map(Player::id).orElse("") + "\n"
+        + "pot=" + hand.potSize().value() + "\n"
+        + "stacks=" + stacks + "\n";
+  }
+
+  private String metrics() {
+    return "actions=" + actionLatencies.count() + "\n"
+        + "p50Micros=" + actionLatencies.percentile(MEDIAN) / NANOS_PER_MICRO + "\n"
+        + "p99Micros=" + actionLatencies.percentile(P99) / NANOS_PER_MICRO + "\n";
+  }
+
+  private static HandId handIdOf(String value) {
+    if (value.isEmpty() || value.contains("/")) {
+      throw new BadRequestException("Invalid hand id: " + value);
+    }
+    return new HandId(value);
+  }
+
+  private static String bodyOf(HttpExchange exchange) {
+    try {
+      return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // blinds, stacks and chips are never negative
+  private static int parseNumber(String value) {
+    final int number;
+    try {
+      number = Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Not a number: " + value);
+    }
+    if (number < 0) {
+      throw new BadRequestException("Must not be negative: " + value);
+    }
+    return number;
+  }
+
+  private record Response(int status, String body) {
+
+  }
+
+  public static class Builder {
+
+    private int port;
+    private CreateGameUseCase createGameUseCase;
+    private GameActionUseCase gameActionUseCase;
+    private LoadHandPort loadHandPort;
+
+    private Builder() {
+      this.port = 0;
+      this.createGameUseCase = null;
+      this.gameActionUseCase = null;
+      this.loadHandPort = null;
+    }
+
+    public TableServer build() {
+      try {
+        return new TableServer(this);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    // 0 picks a free port, see TableServer#port
+    public Builder port(int port) {
+      this.port = port;
+      return this;
+    }
+
+    public Builder createGameUseCase(CreateGameUseCase createGameUseCase) {
+      this.createGameUseCase = createGameUseCase;
+      return this;
+    }
+
+    public Builder gameActionUseCase(GameActionUseCase gameActionUseCase) {
+      this.gameActionUseCase = gameActionUseCase;
+      return this;
+    }
+
+    public Builder loadHandPort(LoadHandPort loadHandPort) {
+      this.loadHandPort = loadHandPort;
+      return this;
+    }
+  }
+
+  public static class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+      super(message);
+    }
+  }
+
+  public static class HandAlreadyExistsException extends RuntimeException {
+
+    public HandAlreadyExistsException(HandId handId) {
+      super("Hand already exists, " + handId);
+    }
+  }
+}
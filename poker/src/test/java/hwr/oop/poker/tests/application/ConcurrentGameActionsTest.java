@@ -0,0 +1,155 @@
+package hwr.oop.poker.tests.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.GameActionService;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.RandomDeck;
+import hwr.oop.poker.application.ports.in.GameActionUseCase;
+import hwr.oop.poker.application.ports.out.LoadHandPort;
+import hwr.oop.poker.persistence.InMemoryPersistenceAdapter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentGameActionsTest {
+
+  private InMemoryPersistenceAdapter persistence;
+  private Player firstPlayer;
+  private Player secondPlayer;
+
+  @BeforeEach
+  void setUp() {
+    persistence = new InMemoryPersistenceAdapter();
+    firstPlayer = new Player("1");
+    secondPlayer = new Player("2");
+  }
+
+  @Test
+  void concurrentPlaysOnOneHand_NoPlayIsLost() throws Exception {
+    final var handId = new HandId("1337");
+    persistence.saveHand(handId, newHand());
+    // a slow load lets every unserialised call read the same hand before anybody saves
+    final LoadHandPort slowLoad = id -> {
+      final var hand = persistence.loadById(id);
+      sleep(5);
+      return hand;
+    };
+    final var service = new GameActionService(slowLoad, persistence);
+    final List<Callable<Boolean>> calls = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      calls.add(() -> succeeds(() -> service.gameAction(call(handId, "1"))));
+    }
+    final var results = invokeAll(calls);
+    assertThat(results).containsOnlyOnce(true);
+    final var plays = persistence.loadById(handId).plays().toList();
+    assertThat(plays).hasSize(3);
+  }
+
+  @Test
+  void playsOnDifferentHands_DoNotWaitForEachOther() throws Exception {
+    final var blockedHand = new HandId("A");
+    final var otherHand = new HandId("B");
+    persistence.saveHand(blockedHand, newHand());
+    persistence.saveHand(otherHand, newHand());
+    final var otherHandPlayed = new CountDownLatch(1);
+    // the play on A holds its stripe until the play on B is saved
+    final LoadHandPort waitingLoad = id -> {
+      if (id.equals(blockedHand)) {
+        await(otherHandPlayed);
+      }
+      return persistence.loadById(id);
+    };
+    final var service = new GameActionService(waitingLoad, persistence);
+    final List<Callable<Boolean>> calls = List.of(
+        () -> succeeds(() -> service.gameAction(call(blockedHand, "1"))),
+        () -> {
+          sleep(20);
+          service.gameAction(call(otherHand, "1"));
+          otherHandPlayed.countDown();
+          return true;
+        });
+    assertThat(invokeAll(calls)).containsOnly(true);
+  }
+
+  @Test
+  void numberOfStripesNotAPowerOfTwo_ThrowsException() {
+    assertThatThrownBy(() -> new GameActionService(persistence, persistence, 12))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("power of two");
+  }
+
+  private Hand newHand() {
+    final var stacks = Stacks.newBuilder()
+        .of(firstPlayer).is(1000)
+        .of(secondPlayer).is(1000)
+        .build();
+    return Hand.newBuilder()
+        .deck(new RandomDeck())
+        .players(List.of(firstPlayer, secondPlayer))
+        .stacks(stacks)
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(10)))
+        .build();
+  }
+
+  private GameActionUseCase.GameActionCommand call(HandId handId, String playerId) {
+    return GameActionUseCase.newCommandBuilder()
+        .handId(handId.value())
+        .playerId(playerId)
+        .type("CALL")
+        .build();
+  }
+
+  private static boolean succeeds(Runnable action) {
+    try {
+      action.run();
+      return true;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private static List<Boolean> invokeAll(List<Callable<Boolean>> calls)
+      throws InterruptedException, ExecutionException {
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Boolean> results = new ArrayList<>();
+      for (Future<Boolean> future : executor.invokeAll(calls, 10, TimeUnit.SECONDS)) {
+        results.add(future.get());
+      }
+      return results;
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("Timed out waiting for the other hand");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
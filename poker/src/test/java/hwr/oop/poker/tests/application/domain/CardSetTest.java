@@ -0,0 +1,92 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Color;
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.Symbol;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.cards.CommunityCards;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CardSet (64 bit card collection)")
+class CardSetTest {
+
+  private Converter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = Converter.create();
+  }
+
+  @Test
+  void of_Cards_ContainsExactlyThoseCards() {
+    final var cards = converter.convert("AS,2H,TD,KC,7S");
+    final var cardSet = CardSet.of(cards);
+    assertThat(cardSet.size()).isEqualTo(5);
+    assertThat(cardSet.toList()).containsExactlyInAnyOrderElementsOf(cards);
+    assertThat(cardSet.contains(converter.from("TD"))).isTrue();
+    assertThat(cardSet.contains(converter.from("TS"))).isFalse();
+  }
+
+  @Test
+  void of_DuplicateCards_CountedOnce() {
+    final var cardSet = CardSet.of(converter.convert("AS,AS,KD"));
+    assertThat(cardSet.size()).isEqualTo(2);
+  }
+
+  @Test
+  void union_HoleCardsAndBoard_ContainsAllCards() {
+    final var holeCards = CardSet.of(converter.convert("AH,KH"));
+    final var board = CommunityCards.flop(converter.convert("QH,JH,TH"))
+        .turn(converter.from("2C"))
+        .river(converter.from("3D"));
+    final var all = holeCards.union(board.cardSet());
+    assertThat(all.size()).isEqualTo(7);
+    assertThat(all.containsAll(holeCards)).isTrue();
+    assertThat(all.without(holeCards)).isEqualTo(board.cardSet());
+    assertThat(holeCards.intersects(board.cardSet())).isFalse();
+  }
+
+  @Test
+  void count_PerColorAndPerSymbol() {
+    final var cardSet = CardSet.of(converter.convert("AH,KH,QH,AS,AD,2C"));
+    assertThat(cardSet.count(Color.HEARTS)).isEqualTo(3);
+    assertThat(cardSet.count(Color.CLUBS)).isEqualTo(1);
+    assertThat(cardSet.count(Symbol.ACE)).isEqualTo(3);
+    assertThat(cardSet.count(Symbol.SEVEN)).isZero();
+    assertThat(cardSet.symbolsOf(Color.HEARTS))
+        .isEqualTo(1 << Symbol.ACE.ordinal() | 1 << Symbol.KING.ordinal()
+            | 1 << Symbol.QUEEN.ordinal());
+  }
+
+  @Test
+  void iteration_VisitsCardsInIndexOrder() {
+    final var cardSet = CardSet.empty()
+        .with(Card.of(Color.CLUBS, Symbol.TWO))
+        .with(Card.of(Color.SPADES, Symbol.ACE))
+        .with(Card.of(Color.SPADES, Symbol.TWO));
+    final List<Card> visited = new ArrayList<>();
+    cardSet.forEach(visited::add);
+    assertThat(visited).extracting(Card::index).isSorted();
+    assertThat(visited).hasSize(3);
+  }
+
+  @Test
+  void empty_HasNoCards() {
+    assertThat(CardSet.empty().isEmpty()).isTrue();
+    assertThat(CardSet.empty().iterator().hasNext()).isFalse();
+  }
+
+  @Test
+  void fromMask_BitsBeyondTheDeck_Throws() {
+    assertThatThrownBy(() -> CardSet.fromMask(1L << 52))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
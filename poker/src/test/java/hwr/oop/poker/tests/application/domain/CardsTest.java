@@ -1,12 +1,15 @@
 package hwr.oop.poker.tests.application.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import hwr.oop.poker.application.domain.Card;
 import hwr.oop.poker.application.domain.Color;
 import hwr.oop.poker.application.domain.Converter;
 import hwr.oop.poker.application.domain.Symbol;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -21,7 +24,7 @@ class CardsTest {
     final Symbol seven = Symbol.SEVEN;
     final Color expectedColor = Color.valueOf(colorString);
 
-    final Card card = new Card(expectedColor, seven);
+    final Card card = Card.of(expectedColor, seven);
     final Color color = card.color();
     final Symbol number = card.symbol();
 
@@ -40,7 +43,7 @@ class CardsTest {
     final Symbol expectedNumber = Symbol.valueOf(numberString);
     final Color hearts = Color.HEARTS;
 
-    final Card card = new Card(hearts, expectedNumber);
+    final Card card = Card.of(hearts, expectedNumber);
     final Color color = card.color();
     final Symbol number = card.symbol();
 
@@ -92,4 +95,34 @@ class CardsTest {
     final Card second = converter.from(secondCard);
     assertThat(first).isNotEqualTo(second);
   }
+
+  @ParameterizedTest
+  @DisplayName("#of: same color and symbol, same instance")
+  @ValueSource(strings = {"TH", "AS", "2D", "JC"})
+  void of_SameColorAndSymbol_SameInstance(String cardString) {
+    final Card parsed = Converter.create().from(cardString);
+    final Card card = Card.of(parsed.color(), parsed.symbol());
+    assertThat(card).isSameAs(parsed);
+  }
+
+  @Test
+  @DisplayName("#index: all 52 cards have distinct indices in [0, 52)")
+  void index_AllCards_DistinctAndFromIndexIsInverse() {
+    assertThat(Card.NUMBER_OF_CARDS).isEqualTo(52);
+    IntStream.range(0, Card.NUMBER_OF_CARDS).forEach(index -> {
+      final Card card = Card.fromIndex(index);
+      assertThat(card.index()).isEqualTo(index);
+      assertThat(card.hashCode()).isEqualTo(index);
+      assertThat(Card.of(card.color(), card.symbol())).isSameAs(card);
+    });
+  }
+
+  @ParameterizedTest
+  @DisplayName("#fromIndex: out of range, throws")
+  @ValueSource(ints = {-1, 52, 64})
+  void fromIndex_OutOfRange_Throws(int index) {
+    assertThatThrownBy(() -> Card.fromIndex(index))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(Integer.toString(index));
+  }
 }
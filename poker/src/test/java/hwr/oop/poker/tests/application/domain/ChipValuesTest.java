@@ -35,4 +35,21 @@ class ChipValuesTest {
     assertThat(valuedBigBlind).isGreaterThan(smallBlind);
   }
 
+  @Test
+  @DisplayName("Small Chip Values are shared, large ones are still equal")
+  void smallChipValues_AreShared() {
+    assertThat(ChipValue.of(0)).isSameAs(ChipValue.zero());
+    assertThat(ChipValue.of(20)).isSameAs(ChipValue.of(10).plus(ChipValue.of(10)));
+    assertThat(ChipValue.of(1_000_000)).isEqualTo(ChipValue.of(1_000_000));
+  }
+
+  @Test
+  @DisplayName("Adding or subtracting zero keeps the Chip Value")
+  void plusAndMinusZero_KeepTheChipValue() {
+    final ChipValue stack = ChipValue.of(1_000_000);
+    assertThat(stack.plus(ChipValue.zero())).isSameAs(stack);
+    assertThat(stack.minus(ChipValue.zero())).isSameAs(stack);
+    assertThat(stack.minus(ChipValue.of(1)).value()).isEqualTo(999_999);
+  }
+
 }
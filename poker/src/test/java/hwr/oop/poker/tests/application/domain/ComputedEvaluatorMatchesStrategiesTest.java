@@ -0,0 +1,66 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.combinations.Combination;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Computed (bitmask) evaluator matches the strategy chain")
+class ComputedEvaluatorMatchesStrategiesTest {
+
+  private final HandEvaluator computed = HandEvaluator.computed();
+  private final HandEvaluator strategies = HandEvaluator.strategyChain();
+
+  @ParameterizedTest(name = "{0} random hands with {0} cards")
+  @ValueSource(ints = {5, 6, 7})
+  void randomHands_SameRankAsStrategyChain(int numberOfCards) {
+    final var random = new Random(numberOfCards);
+    final var deck = CardSet.fromMask(allCards()).toList();
+    for (int i = 0; i < 20_000; i++) {
+      final List<Card> shuffled = new ArrayList<>(deck);
+      Collections.shuffle(shuffled, random);
+      final var cards = shuffled.subList(0, numberOfCards);
+      assertThat(computed.evaluate(cards))
+          .as("rank of %s", cards)
+          .isEqualTo(strategies.evaluate(cards));
+    }
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @CsvSource(delimiter = '-', value = {
+      "AS,KS,QS,JS,TS,9S,8S - STRAIGHT_FLUSH",
+      "6S,2S,5S,3S,8D,7D,4S - STRAIGHT_FLUSH",
+      "AS,AD,AC,AH,KS,KD,KC - QUADS",
+      "AS,AD,AC,KH,KS,KD,2C - FULL_HOUSE",
+      "AS,AD,AC,KH,KS,QD,QC - FULL_HOUSE",
+      "JH,TH,KD,AH,QD,9H,3H - FLUSH",
+      "AS,2C,3D,4H,5S,9C,JD - HIGH_CARD",
+      "AS,AD,KS,KD,QC,QD,2C - TWO_PAIRS",
+  })
+  void edgeCases_SameRankAndLabelAsStrategyChain(String cardsString, Combination.Label label) {
+    final var cards = Converter.create().convert(cardsString);
+    final int rank = computed.evaluate(cards);
+    assertThat(rank).isEqualTo(strategies.evaluate(cards));
+    assertThat(Combination.of(cards).label()).isEqualTo(label);
+    assertThat(Combination.of(cards).rank()).isEqualTo(rank);
+    final var fromMask = Combination.of(CardSet.of(cards), computed);
+    assertThat(fromMask.rank()).isEqualTo(rank);
+    final var symbols = Combination.of(cards).cards().stream().map(Card::symbol).toList();
+    assertThat(fromMask.cards()).extracting(Card::symbol).containsExactlyElementsOf(symbols);
+  }
+
+  private static long allCards() {
+    return (1L << 52) - 1;
+  }
+}
@@ -45,16 +45,16 @@ class HandRemembersStartingPositionTest {
     soft.assertThat(startingHand.blindConfiguration().smallBlind().value()).isEqualTo(1);
 
     soft.assertThat(startingHand.holeCards(firstPlayer)).contains(
-        new Card(Color.SPADES, Symbol.ACE),
-        new Card(Color.CLUBS, Symbol.ACE)
+        Card.of(Color.SPADES, Symbol.ACE),
+        Card.of(Color.CLUBS, Symbol.ACE)
     );
     soft.assertThat(startingHand.holeCards(secondPlayer)).contains(
-        new Card(Color.DIAMONDS, Symbol.ACE),
-        new Card(Color.SPADES, Symbol.KING)
+        Card.of(Color.DIAMONDS, Symbol.ACE),
+        Card.of(Color.SPADES, Symbol.KING)
     );
     soft.assertThat(startingHand.holeCards(thirdPlayer)).contains(
-        new Card(Color.HEARTS, Symbol.ACE),
-        new Card(Color.DIAMONDS, Symbol.KING)
+        Card.of(Color.HEARTS, Symbol.ACE),
+        Card.of(Color.DIAMONDS, Symbol.KING)
     );
     soft.assertAll();
   }
@@ -69,11 +69,11 @@ class HandRemembersStartingPositionTest {
     // then
     final var cards = deck.drawAllCards();
     assertThat(cards).startsWith(
-        new Card(Color.SPADES, Symbol.ACE),
-        new Card(Color.DIAMONDS, Symbol.ACE),
-        new Card(Color.HEARTS, Symbol.ACE),
-        new Card(Color.CLUBS, Symbol.ACE),
-        new Card(Color.SPADES, Symbol.KING)
+        Card.of(Color.SPADES, Symbol.ACE),
+        Card.of(Color.DIAMONDS, Symbol.ACE),
+        Card.of(Color.HEARTS, Symbol.ACE),
+        Card.of(Color.CLUBS, Symbol.ACE),
+        Card.of(Color.SPADES, Symbol.KING)
     );
   }
 
@@ -109,26 +109,26 @@ class HandRemembersStartingPositionTest {
         .of(third).is(10_000)
         .build();
     final var deck = new UnshuffledDeck(
-        new Card(Color.SPADES, Symbol.ACE),
-        new Card(Color.DIAMONDS, Symbol.ACE),
-        new Card(Color.HEARTS, Symbol.ACE),
-        new Card(Color.CLUBS, Symbol.ACE),
-        new Card(Color.SPADES, Symbol.KING),
-        new Card(Color.DIAMONDS, Symbol.KING),
-        new Card(Color.HEARTS, Symbol.KING),
-        new Card(Color.CLUBS, Symbol.KING),
-        new Card(Color.SPADES, Symbol.QUEEN),
-        new Card(Color.DIAMONDS, Symbol.QUEEN),
-        new Card(Color.HEARTS, Symbol.QUEEN),
-        new Card(Color.CLUBS, Symbol.QUEEN),
-        new Card(Color.SPADES, Symbol.JACK),
-        new Card(Color.DIAMONDS, Symbol.JACK),
-        new Card(Color.HEARTS, Symbol.JACK),
-        new Card(Color.CLUBS, Symbol.JACK),
-        new Card(Color.SPADES, Symbol.TEN),
-        new Card(Color.DIAMONDS, Symbol.TEN),
-        new Card(Color.HEARTS, Symbol.TEN),
-        new Card(Color.CLUBS, Symbol.TEN)
+        Card.of(Color.SPADES, Symbol.ACE),
+        Card.of(Color.DIAMONDS, Symbol.ACE),
+        Card.of(Color.HEARTS, Symbol.ACE),
+        Card.of(Color.CLUBS, Symbol.ACE),
+        Card.of(Color.SPADES, Symbol.KING),
+        Card.of(Color.DIAMONDS, Symbol.KING),
+        Card.of(Color.HEARTS, Symbol.KING),
+        Card.of(Color.CLUBS, Symbol.KING),
+        Card.of(Color.SPADES, Symbol.QUEEN),
+        Card.of(Color.DIAMONDS, Symbol.QUEEN),
+        Card.of(Color.HEARTS, Symbol.QUEEN),
+        Card.of(Color.CLUBS, Symbol.QUEEN),
+        Card.of(Color.SPADES, Symbol.JACK),
+        Card.of(Color.DIAMONDS, Symbol.JACK),
+        Card.of(Color.HEARTS, Symbol.JACK),
+        Card.of(Color.CLUBS, Symbol.JACK),
+        Card.of(Color.SPADES, Symbol.TEN),
+        Card.of(Color.DIAMONDS, Symbol.TEN),
+        Card.of(Color.HEARTS, Symbol.TEN),
+        Card.of(Color.CLUBS, Symbol.TEN)
     );
     final var hand = Hand.newBuilder()
         .players(players)
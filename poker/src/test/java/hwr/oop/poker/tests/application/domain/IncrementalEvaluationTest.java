@@ -0,0 +1,141 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.Card;
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.combinations.Combination;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import hwr.oop.poker.application.domain.combinations.IncrementalEvaluation;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IncrementalEvaluationTest {
+
+  private final Converter converter = Converter.create();
+  private Player firstPlayer;
+  private Player secondPlayer;
+  private Hand hand;
+
+  @BeforeEach
+  void setUp() {
+    // hole cards: 1 -> AH, AC; 2 -> TS, 2S; board: TC TH 2H | KS | AS (3s are burned)
+    final var deck = new UnshuffledDeck(
+        converter.convert("AH,TS,AC,2S,3C,TC,TH,2H,3S,KS,3D,AS")
+    );
+    firstPlayer = new Player("1");
+    secondPlayer = new Player("2");
+    final var stacks = Stacks.newBuilder()
+        .of(firstPlayer).is(1000)
+        .of(secondPlayer).is(1000)
+        .build();
+    hand = Hand.newBuilder()
+        .deck(deck)
+        .players(List.of(firstPlayer, secondPlayer))
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(10)))
+        .stacks(stacks)
+        .build();
+  }
+
+  @Test
+  void preFlop_EvaluatesHoleCardsOnly() {
+    assertThat(hand.evaluation(firstPlayer).label()).isEqualTo(Combination.Label.PAIR);
+    assertThat(hand.evaluation(secondPlayer).label()).isEqualTo(Combination.Label.HIGH_CARD);
+    assertThat(hand.evaluation(firstPlayer).cards()).isEqualTo(hand.holeCardSet(firstPlayer));
+  }
+
+  @Test
+  void eachStreet_UpdatesTheBestHand() {
+    final var onFlop = hand.onCurrentRound(this::callAndCheck);
+    assertThat(onFlop.evaluation(firstPlayer).label()).isEqualTo(Combination.Label.TWO_PAIRS);
+    assertThat(onFlop.evaluation(secondPlayer).label()).isEqualTo(Combination.Label.FULL_HOUSE);
+    assertThat(onFlop.evaluation(secondPlayer).over(onFlop.evaluation(firstPlayer))).isTrue();
+
+    final var onRiver = onFlop
+        .onCurrentRound(this::bothCheck)
+        .onCurrentRound(this::bothCheck);
+    assertThat(onRiver.evaluation(firstPlayer).label()).isEqualTo(Combination.Label.FULL_HOUSE);
+    assertThat(onRiver.evaluation(firstPlayer).over(onRiver.evaluation(secondPlayer))).isTrue();
+  }
+
+  @Test
+  void eachStreet_MatchesEvaluationFromScratch() {
+    Hand current = hand.onCurrentRound(this::callAndCheck);
+    for (int street = 0; street < 3; street++) {
+      for (Player player : List.of(firstPlayer, secondPlayer)) {
+        final var allCards = current.holeCardSet(player).union(current.cardSet());
+        final var evaluation = current.evaluation(player);
+        assertThat(evaluation.cards()).isEqualTo(allCards);
+        assertThat(evaluation.rank()).isEqualTo(HandEvaluator.computed().evaluate(allCards));
+      }
+      current = current.onCurrentRound(this::bothCheck);
+    }
+  }
+
+  @Test
+  void showDown_UsesEvaluationsOfTheRiver() {
+    final var finishedHand = hand
+        .onCurrentRound(this::callAndCheck)
+        .onCurrentRound(this::bothCheck)
+        .onCurrentRound(this::bothCheck)
+        .onCurrentRound(this::bothCheck);
+    final var showDown = finishedHand.showDown().orElseThrow();
+    final var allCards = finishedHand.holeCardSet(firstPlayer).union(finishedHand.cardSet());
+    final var fromScratch = Combination.of(allCards, HandEvaluator.computed());
+    assertThat(showDown.winner()).isEqualTo(firstPlayer);
+    assertThat(showDown.combination(firstPlayer).cards())
+        .containsExactlyElementsOf(fromScratch.cards());
+    assertThat(showDown.combination(firstPlayer)).isEqualByComparingTo(fromScratch);
+  }
+
+  @Test
+  void dealingKnownCards_KeepsTheEvaluation() {
+    final var holeCards = CardSet.of(converter.convert("AH,AC"));
+    final var flop = CardSet.of(converter.convert("TC,TH,2H"));
+    final var onFlop = IncrementalEvaluation.start(holeCards).deal(flop);
+    assertThat(onFlop.deal(flop)).isSameAs(onFlop);
+    assertThat(onFlop.deal(CardSet.empty())).isSameAs(onFlop);
+  }
+
+  @Test
+  void dealingCardByCard_MatchesEvaluationFromScratch() {
+    final var random = new Random(42);
+    for (int sample = 0; sample < 1000; sample++) {
+      IncrementalEvaluation evaluation = IncrementalEvaluation.start(CardSet.empty());
+      CardSet dealt = CardSet.empty();
+      while (dealt.size() < 7) {
+        final var card = Card.fromIndex(random.nextInt(Card.NUMBER_OF_CARDS));
+        dealt = dealt.with(card);
+        evaluation = evaluation.deal(CardSet.of(card));
+        assertThat(evaluation.rank()).isEqualTo(HandEvaluator.computed().evaluate(dealt));
+      }
+    }
+  }
+
+  @Test
+  void evaluation_UnseatedPlayer_Throws() {
+    final var stranger = new Player("3");
+    assertThatThrownBy(() -> hand.evaluation(stranger))
+        .isInstanceOf(Hand.InvalidPlayerForHandException.class)
+        .hasMessageContaining("3");
+  }
+
+  private BettingRound callAndCheck(BettingRound round) {
+    return round.with(firstPlayer).call().with(secondPlayer).check();
+  }
+
+  private BettingRound bothCheck(BettingRound round) {
+    return round.with(firstPlayer).check().with(secondPlayer).check();
+  }
+}
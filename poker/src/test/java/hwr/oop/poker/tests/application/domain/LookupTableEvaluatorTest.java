@@ -0,0 +1,96 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.HoleCards;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.ShowDown;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.cards.CommunityCards;
+import hwr.oop.poker.application.domain.combinations.Combination;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Lookup table evaluator (memory mapped)")
+class LookupTableEvaluatorTest {
+
+  @TempDir
+  private Path directory;
+  private Path tableFile;
+  private HandEvaluator table;
+
+  @BeforeEach
+  void setUp() {
+    tableFile = directory.resolve("ranks.table");
+    table = HandEvaluator.lookupTable(tableFile);
+  }
+
+  @ParameterizedTest(name = "random hands with {0} cards")
+  @ValueSource(ints = {5, 6, 7})
+  void randomHands_SameRankAsComputed(int numberOfCards) {
+    final var computed = HandEvaluator.computed();
+    final var random = new SplittableRandom(numberOfCards);
+    for (int i = 0; i < 200_000; i++) {
+      long cards = 0L;
+      while (Long.bitCount(cards) < numberOfCards) {
+        cards |= 1L << random.nextInt(52);
+      }
+      assertThat(table.evaluate(cards))
+          .as("rank of %s", CardSet.fromMask(cards))
+          .isEqualTo(computed.evaluate(cards));
+    }
+  }
+
+  @Test
+  void tableIsWrittenOnce_AndReusedOnNextLoad() throws IOException {
+    final var past = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(tableFile, past);
+    final var reloaded = HandEvaluator.lookupTable(tableFile);
+    assertThat(Files.getLastModifiedTime(tableFile)).isEqualTo(past);
+    final var cards = Converter.create().convert("AS,KS,QS,JS,TS,2D,3C");
+    assertThat(reloaded.evaluate(cards)).isEqualTo(table.evaluate(cards));
+  }
+
+  @Test
+  void corruptTable_IsRegenerated() throws IOException {
+    final var corruptFile = directory.resolve("corrupt.table");
+    Files.writeString(corruptFile, "not a table");
+    final var regenerated = HandEvaluator.lookupTable(corruptFile);
+    final var cards = Converter.create().convert("AS,AD,AC,KH,KS,2D,3C");
+    assertThat(Files.size(corruptFile)).isEqualTo(Files.size(tableFile));
+    assertThat(Combination.of(cards, regenerated).label())
+        .isEqualTo(Combination.Label.FULL_HOUSE);
+  }
+
+  @Test
+  void showDown_WithTable_HasSameWinnerAsComputed() {
+    final var converter = Converter.create();
+    final var first = new Player("1");
+    final var second = new Player("2");
+    final var players = List.of(first, second);
+    final var holeCards = HoleCards.createByDrawingFromDeck(
+        new UnshuffledDeck(converter.convert("AH,TS,AC,2S")), players);
+    final var communityCards = CommunityCards
+        .flop(converter.convert("TC,TH,2H"))
+        .turn(converter.from("KS"))
+        .river(converter.from("AS"));
+    final var computed = ShowDown.create(communityCards, holeCards, players);
+    final var tableDriven = ShowDown.create(communityCards, holeCards, players, table);
+    assertThat(tableDriven.winner()).isEqualTo(computed.winner()).isEqualTo(first);
+    assertThat(tableDriven.combination(second).rank())
+        .isEqualTo(computed.combination(second).rank());
+  }
+}
@@ -0,0 +1,140 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.ChipValue;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Pot;
+import hwr.oop.poker.application.domain.Pots;
+import hwr.oop.poker.application.domain.Seats;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.Play;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PotsTest {
+
+  private Player first;
+  private Player second;
+  private Player third;
+  private Pots pots;
+
+  @BeforeEach
+  void setUp() {
+    first = new Player("1");
+    second = new Player("2");
+    third = new Player("3");
+    pots = Pots.empty(Seats.of(List.of(first, second, third)));
+  }
+
+  @Test
+  void allInForLess_MainPotForAll_SidePotForTheOthers() {
+    final var withAllIn = pots
+        .add(bet(first, 50))
+        .add(bet(second, 100))
+        .add(bet(third, 100));
+    assertThat(withAllIn.total()).isEqualTo(ChipValue.of(250));
+    assertThat(withAllIn.pots()).containsExactly(
+        new Pot(ChipValue.of(150), List.of(first, second, third)),
+        new Pot(ChipValue.of(100), List.of(second, third))
+    );
+  }
+
+  @Test
+  void shortStackWins_OnlyTheMainPot() {
+    final var withAllIn = pots
+        .addAll(List.of(bet(first, 50), bet(second, 100), bet(third, 100)));
+    final var stacks = stacks(0, 100, 100);
+    final var finalStacks = withAllIn.resolve(stacks,
+        List.of(List.of(first), List.of(second), List.of(third)));
+    assertThat(finalStacks).isEqualTo(stacks(150, 200, 100));
+  }
+
+  @Test
+  void bigStackWins_AllPots() {
+    final var withAllIn = pots
+        .addAll(List.of(bet(first, 50), bet(second, 100), bet(third, 100)));
+    final var finalStacks = withAllIn.resolve(stacks(0, 100, 100),
+        List.of(List.of(third), List.of(first), List.of(second)));
+    assertThat(finalStacks).isEqualTo(stacks(0, 100, 350));
+  }
+
+  @Test
+  void foldedChips_StayInThePot_FoldedPlayerIsNotEligible() {
+    final var afterFold = pots
+        .addAll(List.of(bet(first, 30), bet(second, 100), bet(third, 100), fold(first)));
+    assertThat(afterFold.pots()).containsExactly(
+        new Pot(ChipValue.of(230), List.of(second, third))
+    );
+    final var finalStacks = afterFold.resolve(stacks(70, 0, 0),
+        List.of(List.of(first), List.of(second), List.of(third)));
+    assertThat(finalStacks).isEqualTo(stacks(70, 230, 0));
+  }
+
+  @Test
+  void foldedPlayerPutInMostChips_ExcessGoesToTheTopPot() {
+    final var afterFold = pots
+        .addAll(List.of(bet(first, 100), bet(second, 50), bet(third, 50), fold(first)));
+    assertThat(afterFold.pots()).containsExactly(
+        new Pot(ChipValue.of(200), List.of(second, third))
+    );
+  }
+
+  @Test
+  void splitPot_OddChipGoesToTheFirstSeat() {
+    final var split = pots
+        .addAll(List.of(bet(first, 1), fold(first), bet(second, 35), bet(third, 35)));
+    final var finalStacks = split.resolve(stacks(0, 0, 0),
+        List.of(List.of(first), List.of(second, third)));
+    assertThat(finalStacks).isEqualTo(stacks(0, 36, 35));
+  }
+
+  @Test
+  void nineAllIns_EachPlayerWinsTheSidePotUpToTheirStack() {
+    final var players = IntStream.range(0, 9)
+        .mapToObj(i -> new Player(String.valueOf(i)))
+        .toList();
+    Pots manyAllIns = Pots.empty(Seats.of(players));
+    final var builder = Stacks.newBuilder();
+    final List<List<Player>> ranking = new ArrayList<>();
+    for (int seat = 0; seat < players.size(); seat++) {
+      manyAllIns = manyAllIns.add(bet(players.get(seat), 10L * (seat + 1)));
+      builder.of(players.get(seat)).is(0);
+      ranking.add(List.of(players.get(seat)));
+    }
+    assertThat(manyAllIns.pots()).hasSize(9);
+    final var finalStacks = manyAllIns.resolve(builder.build(), ranking);
+    for (int seat = 0; seat < players.size(); seat++) {
+      assertThat(finalStacks.ofPlayer(players.get(seat)))
+          .isEqualTo(ChipValue.of(10L * (players.size() - seat)));
+    }
+  }
+
+  @Test
+  void unknownPlayer_ThrowsException() {
+    final var play = bet(new Player("4"), 10);
+    assertThatThrownBy(() -> pots.add(play))
+        .isInstanceOf(Pots.InvalidPlayerForPotException.class)
+        .hasMessageContaining("4");
+  }
+
+  private Stacks stacks(long firstStack, long secondStack, long thirdStack) {
+    return Stacks.newBuilder()
+        .of(first).is(firstStack)
+        .of(second).is(secondStack)
+        .of(third).is(thirdStack)
+        .build();
+  }
+
+  private static Play bet(Player player, long chips) {
+    return Play.bet(player, ChipValue.of(chips));
+  }
+
+  private static Play fold(Player player) {
+    return Play.fold(player);
+  }
+}
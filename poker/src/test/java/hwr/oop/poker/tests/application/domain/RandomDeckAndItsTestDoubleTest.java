@@ -68,15 +68,15 @@ class RandomDeckAndItsTestDoubleTest {
     @DisplayName("only (H7,JS,AC) in deckString, exactly (H7,JS,AC) can be drawn")
     void testDouble_ThreeCards_ExactlyTheseCardsPresent() {
       final Deck deck = new UnshuffledDeck(
-          new Card(Color.HEARTS, Symbol.SEVEN),
-          new Card(Color.SPADES, Symbol.JACK),
-          new Card(Color.CLUBS, Symbol.ACE)
+          Card.of(Color.HEARTS, Symbol.SEVEN),
+          Card.of(Color.SPADES, Symbol.JACK),
+          Card.of(Color.CLUBS, Symbol.ACE)
       );
       final List<Card> cards = deck.drawAllCards();
       assertThat(cards).containsExactly(
-          new Card(Color.HEARTS, Symbol.SEVEN),
-          new Card(Color.SPADES, Symbol.JACK),
-          new Card(Color.CLUBS, Symbol.ACE)
+          Card.of(Color.HEARTS, Symbol.SEVEN),
+          Card.of(Color.SPADES, Symbol.JACK),
+          Card.of(Color.CLUBS, Symbol.ACE)
       );
     }
 
@@ -84,13 +84,13 @@ class RandomDeckAndItsTestDoubleTest {
     @DisplayName("only (H7,H8) in deckString, exactly (H7,H8) can be drawn")
     void testDoubleDeckWithFiveCards_AllDrawnCardsAreTheOnesProvided() {
       final Deck deck = new UnshuffledDeck(
-          new Card(Color.HEARTS, Symbol.SEVEN),
-          new Card(Color.HEARTS, Symbol.EIGHT)
+          Card.of(Color.HEARTS, Symbol.SEVEN),
+          Card.of(Color.HEARTS, Symbol.EIGHT)
       );
       final List<Card> cards = deck.drawAllCards();
       assertThat(cards).containsExactly(
-          new Card(Color.HEARTS, Symbol.SEVEN),
-          new Card(Color.HEARTS, Symbol.EIGHT)
+          Card.of(Color.HEARTS, Symbol.SEVEN),
+          Card.of(Color.HEARTS, Symbol.EIGHT)
       );
     }
 
@@ -98,7 +98,7 @@ class RandomDeckAndItsTestDoubleTest {
     @DisplayName("draw all cards, draw once more, throws exception")
     void emptyDeck_DrawOnceMore_ThrowsException() {
       final Deck deck = new UnshuffledDeck(
-          new Card(Color.HEARTS, Symbol.SEVEN)
+          Card.of(Color.HEARTS, Symbol.SEVEN)
       );
       deck.drawAllCards();
       assertThrows(Deck.DrawFromEmptyDeckException.class, deck::draw);
@@ -108,7 +108,7 @@ class RandomDeckAndItsTestDoubleTest {
     @DisplayName("draw all cards, draw once more, throws exception")
     void emptyDeck_PeekOnTopCard_ThrowsException() {
       final Deck deck = new UnshuffledDeck(
-          new Card(Color.HEARTS, Symbol.SEVEN)
+          Card.of(Color.HEARTS, Symbol.SEVEN)
       );
       deck.drawAllCards();
       assertThrows(Deck.DrawFromEmptyDeckException.class, deck::top);
@@ -118,7 +118,7 @@ class RandomDeckAndItsTestDoubleTest {
     @DisplayName("draw all cards, remove top card, throws exception")
     void emptyDeck_RemoveFirstCard_ThrowsException() {
       final Deck deck = new UnshuffledDeck(
-          new Card(Color.HEARTS, Symbol.SEVEN)
+          Card.of(Color.HEARTS, Symbol.SEVEN)
       );
       deck.drawAllCards();
       assertThrows(Deck.DrawFromEmptyDeckException.class, deck::burn);
@@ -0,0 +1,61 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.combinations.AnalysisFlyweightFactory;
+import hwr.oop.poker.application.domain.combinations.HandEvaluator;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Shared analysis flyweight cache")
+class SharedAnalysisCacheTest {
+
+  private final HandEvaluator strategies = HandEvaluator.strategyChain();
+  private final AnalysisFlyweightFactory cache = AnalysisFlyweightFactory.shared();
+
+  @Test
+  void sameCardsInDifferentOrder_ReuseAnalysis() {
+    final var converter = Converter.create();
+    final var cards = converter.convert("AS,KD,7H,7C,2S,9D,JC");
+    final var reordered = converter.convert("JC,9D,2S,7C,7H,KD,AS");
+    strategies.evaluate(cards);
+    final var before = cache.statistics();
+    final int rank = strategies.evaluate(reordered);
+    final var after = cache.statistics();
+    assertThat(rank).isEqualTo(HandEvaluator.computed().evaluate(cards));
+    assertThat(after.hits()).isGreaterThan(before.hits());
+  }
+
+  @Test
+  void capacity_IsBounded() {
+    final var random = new SplittableRandom(42);
+    for (int i = 0; i < 50_000; i++) {
+      strategies.evaluate(randomHand(random));
+    }
+    final var statistics = cache.statistics();
+    assertThat(statistics.capacity()).isLessThan(50_000);
+    assertThat(statistics.requests()).isGreaterThanOrEqualTo(50_000);
+  }
+
+  @Test
+  void concurrentEvaluation_MatchesComputedEvaluator() {
+    final var computed = HandEvaluator.computed();
+    final long mismatches = LongStream.range(0, 20_000)
+        .parallel()
+        .map(seed -> randomHand(new SplittableRandom(seed % 500)))
+        .filter(cards -> strategies.evaluate(cards) != computed.evaluate(cards))
+        .count();
+    assertThat(mismatches).isZero();
+  }
+
+  private static long randomHand(SplittableRandom random) {
+    long cards = 0L;
+    while (Long.bitCount(cards) < 7) {
+      cards |= 1L << random.nextInt(52);
+    }
+    return cards;
+  }
+}
@@ -0,0 +1,77 @@
+package hwr.oop.poker.tests.application.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.HoleCards;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.ShowDown;
+import hwr.oop.poker.application.domain.cards.CommunityCards;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ShowDown ranking with ties")
+class ShowDownRanksAllPlayersTest {
+
+  private final Converter converter = Converter.create();
+  private Player first;
+  private Player second;
+  private Player third;
+  private Player fourth;
+  private List<Player> players;
+
+  @BeforeEach
+  void setUp() {
+    first = new Player("1");
+    second = new Player("2");
+    third = new Player("3");
+    fourth = new Player("4");
+    players = List.of(first, second, third, fourth);
+  }
+
+  @Test
+  void ranking_GroupsEqualHands_BestFirst() {
+    // 1: 2C 7D, 2: 3D 5H, 3: AH AS, 4: AC 2D
+    final var showDown = showDown("2C,3D,AH,AC,7D,5H,AS,2D", "KS,KH,QD,QC,JH");
+    assertThat(showDown.ranking()).containsExactly(
+        List.of(third), List.of(fourth), List.of(first, second)
+    );
+    assertThat(showDown.winners()).containsExactly(third);
+    assertThat(showDown.winner()).isEqualTo(third);
+    assertThat(showDown.isSplit()).isFalse();
+  }
+
+  @Test
+  void boardPlays_AllPlayersSplit() {
+    final var showDown = showDown("2C,3D,4H,5C,7D,8H,9S,2D", "TC,JD,QH,KS,AD");
+    assertThat(showDown.ranking()).containsExactly(players);
+    assertThat(showDown.winners()).containsExactly(first, second, third, fourth);
+    assertThat(showDown.winner()).isEqualTo(first);
+    assertThat(showDown.isSplit()).isTrue();
+  }
+
+  @Test
+  void ranking_AgreesWithCombinations() {
+    final var showDown = showDown("2C,3D,AH,AC,7D,5H,AS,2D", "KS,KH,QD,QC,JH");
+    final var ranking = showDown.ranking();
+    for (int i = 1; i < ranking.size(); i++) {
+      final var better = showDown.combination(ranking.get(i - 1).getFirst());
+      final var worse = showDown.combination(ranking.get(i).getFirst());
+      assertThat(better.over(worse)).isTrue();
+    }
+  }
+
+  private ShowDown showDown(String holeCards, String board) {
+    final var deck = new UnshuffledDeck(converter.convert(holeCards));
+    final var boardCards = converter.convert(board);
+    final var communityCards = CommunityCards
+        .flop(boardCards.subList(0, 3))
+        .turn(boardCards.get(3))
+        .river(boardCards.get(4));
+    return ShowDown.create(communityCards, HoleCards.createByDrawingFromDeck(deck, players),
+        players);
+  }
+}
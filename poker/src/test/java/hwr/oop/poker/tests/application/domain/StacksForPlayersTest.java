@@ -172,6 +172,32 @@ class StacksForPlayersTest {
               "tried", betSize.toString()
           );
     }
+
+    @Test
+    void seatsFollowBuilderOrder_EqualityIgnoresOrder() {
+      final Stacks stacks = Stacks.newBuilder()
+          .of(firstPlayer).is(100)
+          .of(secondPlayer).is(50)
+          .build();
+      final Stacks reversed = Stacks.newBuilder()
+          .of(secondPlayer).is(50)
+          .of(firstPlayer).is(100)
+          .build();
+      assertThat(stacks.seats().players()).containsExactly(firstPlayer, secondPlayer);
+      assertThat(stacks.chipsAt(1)).isEqualTo(50);
+      assertThat(stacks).isEqualTo(reversed).hasSameHashCodeAs(reversed);
+    }
+
+    @Test
+    void unknownPlayerBets_ThrowsException() {
+      final Stacks stacks = Stacks.newBuilder()
+          .of(firstPlayer).is(100)
+          .build();
+      final var play = Play.bet(secondPlayer, ChipValue.of(10));
+      assertThat(stacks.ofPlayer(secondPlayer)).isNull();
+      assertThatThrownBy(() -> stacks.apply(play))
+          .isInstanceOf(Stacks.InvalidPlayerForStackException.class);
+    }
   }
 
   @Nested
@@ -461,4 +461,53 @@ class BettingRoundsHappyPathTest {
         .containsExactlyInAnyOrder(firstPlayer, thirdPlayer)
         .doesNotContain(secondPlayer);
   }
+
+  @Test
+  void betRaisedFoldAndCalled_RoundIsFinished_PotAndContributionsAddUp() {
+    final BettingRound updatedBettingRound = round
+        .with(firstPlayer).bet(10)
+        .with(secondPlayer).raiseTo(30)
+        .with(thirdPlayer).fold();
+    assertThat(updatedBettingRound.isFinished()).isFalse();
+    assertThat(updatedBettingRound.turn()).contains(firstPlayer);
+
+    final BettingRound finishedRound = updatedBettingRound.with(firstPlayer).call();
+    assertThat(finishedRound.isFinished()).isTrue();
+    assertThat(finishedRound.pot()).isEqualTo(ChipValue.of(60));
+    assertThat(finishedRound.chipsPutIntoPotBy(firstPlayer)).isEqualTo(ChipValue.of(30));
+    assertThat(finishedRound.chipsPutIntoPotBy(secondPlayer)).isEqualTo(ChipValue.of(30));
+    assertThat(finishedRound.chipsPutIntoPotBy(thirdPlayer)).isEqualTo(ChipValue.zero());
+    assertThat(finishedRound.remainingPlayers()).containsExactly(firstPlayer, secondPlayer);
+    assertThat(finishedRound.lastTargetValueIncreasingPlay()).get()
+        .extracting(Play::player).isEqualTo(secondPlayer);
+  }
+
+  @Test
+  void foldedPlayer_IsSkipped_InFollowingOrbit() {
+    final BettingRound updatedBettingRound = round
+        .with(firstPlayer).bet(10)
+        .with(secondPlayer).fold()
+        .with(thirdPlayer).raiseTo(20);
+    assertThat(updatedBettingRound.turn()).contains(firstPlayer);
+    final BettingRound finishedRound = updatedBettingRound.with(firstPlayer).call();
+    assertThat(finishedRound.isFinished()).isTrue();
+    assertThat(finishedRound.turn()).isEmpty();
+  }
+
+  @Test
+  void playsAndStacks_FollowEachAction() {
+    final BettingRound updatedBettingRound = round
+        .with(firstPlayer).bet(10)
+        .with(secondPlayer).raiseTo(30)
+        .with(thirdPlayer).call();
+    assertThat(updatedBettingRound.plays().map(Play::player))
+        .containsExactly(firstPlayer, secondPlayer, thirdPlayer);
+    assertThat(updatedBettingRound.stacks().ofPlayer(firstPlayer))
+        .isEqualTo(ChipValue.of(99990));
+    assertThat(updatedBettingRound.stacks().ofPlayer(thirdPlayer))
+        .isEqualTo(ChipValue.of(99970));
+    assertThat(updatedBettingRound.remainingChips(secondPlayer))
+        .isEqualTo(ChipValue.of(99970));
+    assertThat(round.stacks().ofPlayer(firstPlayer)).isEqualTo(ChipValue.of(100000));
+  }
 }
@@ -0,0 +1,113 @@
+package hwr.oop.poker.tests.application.domain.betting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.ChipValue;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.betting.Play;
+import hwr.oop.poker.application.domain.betting.RoundInContext;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LegalActionsTest {
+
+  private Player firstPlayer;
+  private Player secondPlayer;
+  private Player thirdPlayer;
+  private Stacks stacks;
+
+  @BeforeEach
+  void setUp() {
+    firstPlayer = new Player("1");
+    secondPlayer = new Player("2");
+    thirdPlayer = new Player("3");
+    stacks = Stacks.newBuilder()
+        .of(firstPlayer).is(100)
+        .of(secondPlayer).is(1000)
+        .of(thirdPlayer).is(1000)
+        .build();
+  }
+
+  @Test
+  void noBetYet_CheckBetOrFold() {
+    final var actions = newRound().legalActions();
+    assertThat(actions.types())
+        .containsExactlyInAnyOrder(Play.Type.FOLD, Play.Type.CHECK, Play.Type.BET);
+    assertThat(actions.minimum()).isEqualTo(ChipValue.of(1));
+    assertThat(actions.maximum()).isEqualTo(ChipValue.of(100));
+    assertThat(actions.canGoAllIn()).isTrue();
+  }
+
+  @Test
+  void facingBet_CallRaiseOrFold_WithRaiseBounds() {
+    final var actions = newRound()
+        .with(firstPlayer).bet(20)
+        .legalActions();
+    assertThat(actions.types())
+        .containsExactlyInAnyOrder(Play.Type.FOLD, Play.Type.CALL, Play.Type.RAISE);
+    assertThat(actions.callAmount()).isEqualTo(ChipValue.of(20));
+    assertThat(actions.minimum()).isEqualTo(ChipValue.of(40));
+    assertThat(actions.maximum()).isEqualTo(ChipValue.of(1000));
+  }
+
+  @Test
+  void bigBlindOnPreFlop_MayCheckOrRaise() {
+    final var round = BettingRound.createPreFlop(stacks,
+            BlindConfiguration.create(SmallBlind.of(5)), List.of(firstPlayer, secondPlayer))
+        .with(firstPlayer).call();
+    final var actions = round.legalActions();
+    assertThat(round.turn()).contains(secondPlayer);
+    assertThat(actions.types())
+        .containsExactlyInAnyOrder(Play.Type.FOLD, Play.Type.CHECK, Play.Type.RAISE);
+    assertThat(actions.minimum()).isEqualTo(ChipValue.of(20));
+  }
+
+  @Test
+  void facingBetAboveTheStack_OnlyFoldOrAllIn() {
+    final var actions = newRound()
+        .with(firstPlayer).check()
+        .with(secondPlayer).bet(500)
+        .with(thirdPlayer).call()
+        .legalActions();
+    assertThat(actions.types()).containsExactly(Play.Type.FOLD);
+    assertThat(actions.canGoAllIn()).isTrue();
+    assertThat(actions.maximum()).isEqualTo(ChipValue.of(100));
+    assertThat(actions.minimum()).isEqualTo(actions.maximum());
+  }
+
+  @Test
+  void finishedRound_NothingIsAllowed() {
+    final var actions = newRound()
+        .with(firstPlayer).check()
+        .with(secondPlayer).check()
+        .with(thirdPlayer).check()
+        .legalActions();
+    assertThat(actions.isEmpty()).isTrue();
+    assertThat(actions.canGoAllIn()).isFalse();
+  }
+
+  @Test
+  void legalActions_AgreeWithTheRound() {
+    final var facingBet = newRound()
+        .with(firstPlayer).bet(20);
+    final var actions = facingBet.legalActions();
+    final RoundInContext second = facingBet.with(secondPlayer);
+    assertThat(second.call().lastPlay()).map(Play::chipValue).contains(actions.callAmount());
+    assertThat(second.raiseTo(actions.minimum().value()).isFinished()).isFalse();
+    assertThat(second.raiseTo(actions.maximum().value()).isFinished()).isFalse();
+    assertThatThrownBy(second::check)
+        .isInstanceOf(BettingRound.InvalidPlayOnStateException.class);
+    assertThatThrownBy(() -> second.bet(20))
+        .isInstanceOf(BettingRound.InvalidPlayOnStateException.class);
+  }
+
+  private BettingRound newRound() {
+    return BettingRound.create(stacks, firstPlayer, secondPlayer, thirdPlayer);
+  }
+}
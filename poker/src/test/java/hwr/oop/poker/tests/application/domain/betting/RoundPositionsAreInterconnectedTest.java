@@ -1,6 +1,7 @@
 package hwr.oop.poker.tests.application.domain.betting;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import hwr.oop.poker.application.domain.betting.positions.RoundPosition;
 import org.junit.jupiter.api.BeforeEach;
@@ -149,4 +150,13 @@ class RoundPositionsAreInterconnectedTest {
     final var nextPosition = river.nextPosition();
     assertThat(nextPosition).isEmpty();
   }
+
+  @Test
+  void positions_AreDenseOrdinals_ResolvableByPosition() {
+    assertThat(RoundPosition.all().map(RoundPosition::position)).containsExactly(0, 1, 2, 3);
+    assertThat(RoundPosition.of(0)).isSameAs(preFlop);
+    assertThat(RoundPosition.of(3)).isSameAs(river);
+    assertThatThrownBy(() -> RoundPosition.of(RoundPosition.NUMBER_OF_POSITIONS))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
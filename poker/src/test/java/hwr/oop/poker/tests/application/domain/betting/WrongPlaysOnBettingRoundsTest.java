@@ -133,4 +133,17 @@ class WrongPlaysOnBettingRoundsTest {
             "got 60"
         );
   }
+
+  @Test
+  void raiseBeyondRemainingStack_RaisesException() {
+    final RoundInContext first = round
+        .with(firstPlayer).bet(10)
+        .with(secondPlayer).raiseTo(30)
+        .with(thirdPlayer).fold()
+        .with(firstPlayer);
+
+    assertThatThrownBy(() -> first.raiseTo(100005))
+        .isInstanceOf(Stacks.InvalidPlayForStackException.class)
+        .hasMessageContainingAll("has only", "99990", "99995");
+  }
 }
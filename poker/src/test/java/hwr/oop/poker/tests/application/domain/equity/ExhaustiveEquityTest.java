@@ -0,0 +1,82 @@
+package hwr.oop.poker.tests.application.domain.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.equity.ExhaustiveEquityCalculator;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Exhaustive equity enumeration for all-in spots")
+class ExhaustiveEquityTest {
+
+  private Converter converter;
+  private Player first;
+  private Player second;
+
+  @BeforeEach
+  void setUp() {
+    converter = Converter.create();
+    first = new Player("1");
+    second = new Player("2");
+  }
+
+  @Test
+  void onTurn_CountsEveryRiverExactly() {
+    final var equities = ExhaustiveEquityCalculator.newBuilder()
+        .player(first, cards("AS,KS"))
+        .player(second, cards("2C,2D"))
+        .board(cards("QS,JS,3H,4D"))
+        .build()
+        .calculate();
+    final var firstEquity = equities.get(first);
+    assertThat(firstEquity.samples()).isEqualTo(44);
+    assertThat(firstEquity.wins()).isEqualTo(18);
+    assertThat(firstEquity.ties()).isZero();
+    assertThat(equities.get(second).wins()).isEqualTo(26);
+  }
+
+  @Test
+  void completeBoard_SingleRunOut_Tie() {
+    final var equities = ExhaustiveEquityCalculator.newBuilder()
+        .player(first, cards("2C,3D"))
+        .player(second, cards("2H,3S"))
+        .board(cards("AS,KD,QH,JC,TS"))
+        .build()
+        .calculate();
+    assertThat(equities.get(first).ties()).isEqualTo(1);
+    assertThat(equities.get(second).ties()).isEqualTo(1);
+  }
+
+  @Test
+  void headsUpPreFlop_EnumeratesAllBoards() {
+    final var equities = ExhaustiveEquityCalculator.newBuilder()
+        .player(first, cards("AS,AH"))
+        .player(second, cards("KD,KC"))
+        .build()
+        .calculate();
+    final var exact = equities.get(first);
+    assertThat(exact.samples()).isEqualTo(1_712_304);
+    assertThat(exact.elapsed()).isLessThan(Duration.ofSeconds(10));
+    assertThat(exact.winRate()).isCloseTo(0.82, within(0.02));
+    assertThat(exact.winRate() + exact.tieRate() + exact.lossRate()).isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  void overlappingHoleCards_Throws() {
+    final var builder = ExhaustiveEquityCalculator.newBuilder()
+        .player(first, cards("AS,AH"))
+        .player(second, cards("AS,KC"));
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private CardSet cards(String cardsString) {
+    return CardSet.of(converter.convert(cardsString));
+  }
+}
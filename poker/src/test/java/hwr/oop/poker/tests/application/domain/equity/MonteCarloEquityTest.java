@@ -0,0 +1,116 @@
+package hwr.oop.poker.tests.application.domain.equity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.cards.CardSet;
+import hwr.oop.poker.application.domain.decks.RandomDeck;
+import hwr.oop.poker.application.domain.equity.MonteCarloEquityCalculator;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Monte Carlo equity on fork-join")
+class MonteCarloEquityTest {
+
+  private Converter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = Converter.create();
+  }
+
+  @Test
+  void pocketAcesPreFlop_HeadsUp_AboutEightyFivePercent() {
+    final var equity = MonteCarloEquityCalculator.newBuilder()
+        .holeCards(cards("AS,AH"))
+        .iterations(200_000)
+        .seed(1)
+        .build()
+        .calculate();
+    assertThat(equity.samples()).isEqualTo(200_000);
+    assertThat(equity.winRate() + equity.tieRate() / 2).isCloseTo(0.852, within(0.01));
+  }
+
+  @Test
+  void royalFlushOnRiver_AlwaysWins() {
+    final var equity = MonteCarloEquityCalculator.newBuilder()
+        .holeCards(cards("AS,KS"))
+        .board(cards("QS,JS,TS,2D,3C"))
+        .opponents(5)
+        .iterations(10_000)
+        .build()
+        .calculate();
+    assertThat(equity.winRate()).isEqualTo(1.0);
+  }
+
+  @Test
+  void sameSeed_SameResult() {
+    final var builder = MonteCarloEquityCalculator.newBuilder()
+        .holeCards(cards("7H,8H"))
+        .board(cards("9H,TC,2S"))
+        .opponents(3)
+        .iterations(20_000)
+        .seed(42);
+    final var first = builder.build().calculate();
+    final var second = builder.build().calculate();
+    assertThat(first.wins()).isEqualTo(second.wins());
+    assertThat(first.ties()).isEqualTo(second.ties());
+  }
+
+  @Test
+  void timeBudget_StopsAndReportsSamples() {
+    final var equity = MonteCarloEquityCalculator.newBuilder()
+        .holeCards(cards("2C,7D"))
+        .opponents(8)
+        .timeBudget(Duration.ofMillis(100))
+        .build()
+        .calculate();
+    assertThat(equity.samples()).isPositive();
+    assertThat(equity.elapsed()).isLessThan(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void forPlayerOfHand_DoesNotChangeHand() {
+    final var first = new Player("1");
+    final var second = new Player("2");
+    final var third = new Player("3");
+    final var stacks = Stacks.newBuilder()
+        .of(first).is(100).of(second).is(100).of(third).is(100)
+        .build();
+    final var hand = Hand.newBuilder()
+        .players(List.of(first, second, third))
+        .stacks(stacks)
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(1)))
+        .deck(new RandomDeck())
+        .build();
+    final var before = hand.toString();
+    final var equity = MonteCarloEquityCalculator.forPlayer(hand, first)
+        .iterations(5_000)
+        .build()
+        .calculate();
+    assertThat(equity.samples()).isEqualTo(5_000);
+    assertThat(hand.toString()).isEqualTo(before);
+  }
+
+  @Test
+  void boardOverlappingHoleCards_Throws() {
+    final var builder = MonteCarloEquityCalculator.newBuilder()
+        .holeCards(cards("AS,KS"))
+        .board(cards("AS,2D,3C"));
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private CardSet cards(String cardsString) {
+    return CardSet.of(converter.convert(cardsString));
+  }
+}
@@ -0,0 +1,105 @@
+package hwr.oop.poker.tests.application.domain.hands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hwr.oop.poker.application.domain.ChipValue;
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Pot;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AllInsAndSidePotsTest {
+
+  private final Converter converter = Converter.create();
+  private Player firstPlayer;
+  private Player secondPlayer;
+  private Player thirdPlayer;
+  private Hand hand;
+
+  @BeforeEach
+  void setUp() {
+    // hole cards: 1 -> AH, AS; 2 -> KH, KS; 3 -> QH, QS; board: 2C 7D 9H | 4S | 8C
+    final var deck = new UnshuffledDeck(
+        converter.convert("AH,KH,QH,AS,KS,QS,3C,2C,7D,9H,3D,4S,3H,8C")
+    );
+    firstPlayer = new Player("1");
+    secondPlayer = new Player("2");
+    thirdPlayer = new Player("3");
+    final var stacks = Stacks.newBuilder()
+        .of(firstPlayer).is(100)
+        .of(secondPlayer).is(200)
+        .of(thirdPlayer).is(300)
+        .build();
+    hand = Hand.newBuilder()
+        .deck(deck)
+        .players(List.of(firstPlayer, secondPlayer, thirdPlayer))
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(1)))
+        .stacks(stacks)
+        .build();
+  }
+
+  @Test
+  void everybodyAllIn_BoardIsRunOut_HandIsFinished() {
+    final var afterAllIns = hand.onCurrentRound(this::everybodyAllIn);
+    assertThat(afterAllIns.isFinished()).isTrue();
+    assertThat(afterAllIns.riverRoundPlayed()).isTrue();
+    assertThat(afterAllIns.cardsDealt()).hasSize(5);
+    assertThat(afterAllIns.potSize()).isEqualTo(ChipValue.of(600));
+  }
+
+  @Test
+  void everybodyAllIn_MainPotAndSidePots() {
+    final var afterAllIns = hand.onCurrentRound(this::everybodyAllIn);
+    assertThat(afterAllIns.pots().pots()).containsExactly(
+        new Pot(ChipValue.of(300), List.of(firstPlayer, secondPlayer, thirdPlayer)),
+        new Pot(ChipValue.of(200), List.of(secondPlayer, thirdPlayer)),
+        new Pot(ChipValue.of(100), List.of(thirdPlayer))
+    );
+  }
+
+  @Test
+  void everybodyAllIn_EachPotGoesToItsBestHand() {
+    final var afterAllIns = hand.onCurrentRound(this::everybodyAllIn);
+    final var expected = Stacks.newBuilder()
+        .of(firstPlayer).is(300)
+        .of(secondPlayer).is(200)
+        .of(thirdPlayer).is(100)
+        .build();
+    assertThat(afterAllIns.finalStacks()).contains(expected);
+  }
+
+  @Test
+  void shortAllInCalled_BiggerStackStillActs() {
+    final var afterShortAllIn = hand.onCurrentRound(round -> round
+        .with(thirdPlayer).raiseTo(150)
+        .with(firstPlayer).allIn());
+    assertThat(afterShortAllIn.isFinished()).isFalse();
+    final var round = afterShortAllIn.onCurrentRound(r -> r.with(secondPlayer).call());
+    assertThat(round.preFlopRoundPlayed()).isTrue();
+    assertThat(round.flop()).isPresent();
+    assertThat(round.pots().pots()).containsExactly(
+        new Pot(ChipValue.of(300), List.of(firstPlayer, secondPlayer, thirdPlayer)),
+        new Pot(ChipValue.of(100), List.of(secondPlayer, thirdPlayer))
+    );
+  }
+
+  @Test
+  void handNotFinished_NoFinalStacks() {
+    assertThat(hand.finalStacks()).isEmpty();
+  }
+
+  private BettingRound everybodyAllIn(BettingRound round) {
+    return round
+        .with(thirdPlayer).allIn()
+        .with(firstPlayer).allIn()
+        .with(secondPlayer).allIn();
+  }
+}
@@ -11,6 +11,7 @@ import hwr.oop.poker.application.domain.Player;
 import hwr.oop.poker.application.domain.Stacks;
 import hwr.oop.poker.application.domain.Symbol;
 import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.betting.positions.RoundPosition;
 import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
 import hwr.oop.poker.application.domain.blinds.SmallBlind;
 import hwr.oop.poker.application.domain.cards.CommunityCardsProvider;
@@ -43,17 +44,17 @@ class PlayingHandsWithTwoPlayersTest {
     cardsOnTurn = converter.convert("KS");
     cardsOnRiver = converter.convert("AS");
     final Deck deck = new UnshuffledDeck(
-        new Card(Color.HEARTS, Symbol.ACE),  // p1, c1
-        new Card(Color.SPADES, Symbol.TEN),
-        new Card(Color.CLUBS, Symbol.ACE),  // p1, c2
-        new Card(Color.SPADES, Symbol.TWO),
-        new Card(Color.CLUBS, Symbol.THREE),  // burned, flop following
+        Card.of(Color.HEARTS, Symbol.ACE),  // p1, c1
+        Card.of(Color.SPADES, Symbol.TEN),
+        Card.of(Color.CLUBS, Symbol.ACE),  // p1, c2
+        Card.of(Color.SPADES, Symbol.TWO),
+        Card.of(Color.CLUBS, Symbol.THREE),  // burned, flop following
         cardsOnFlop.get(0),
         cardsOnFlop.get(1),
         cardsOnFlop.get(2),
-        new Card(Color.SPADES, Symbol.THREE),  // burned, turn following
+        Card.of(Color.SPADES, Symbol.THREE),  // burned, turn following
         cardsOnTurn.getFirst(),
-        new Card(Color.DIAMONDS, Symbol.THREE),  // burned, river following
+        Card.of(Color.DIAMONDS, Symbol.THREE),  // burned, river following
         cardsOnRiver.getFirst()
     );
     firstPlayer = new Player("1");
@@ -75,8 +76,8 @@ class PlayingHandsWithTwoPlayersTest {
   void firstPlayerHoleCards_Bullets_HeartsAndClubs() {
     final var firstPlayerHoleCards = hand.holeCards(firstPlayer);
     assertThat(firstPlayerHoleCards).containsExactlyInAnyOrder(
-        new Card(Color.HEARTS, Symbol.ACE),
-        new Card(Color.CLUBS, Symbol.ACE)
+        Card.of(Color.HEARTS, Symbol.ACE),
+        Card.of(Color.CLUBS, Symbol.ACE)
     );
   }
 
@@ -85,8 +86,8 @@ class PlayingHandsWithTwoPlayersTest {
   void secondPlayerHoleCards_TenDeuceOfSpades() {
     List<Card> secondPlayerHoleCards = hand.holeCards(secondPlayer);
     assertThat(secondPlayerHoleCards).containsExactlyInAnyOrder(
-        new Card(Color.SPADES, Symbol.TEN),
-        new Card(Color.SPADES, Symbol.TWO)
+        Card.of(Color.SPADES, Symbol.TEN),
+        Card.of(Color.SPADES, Symbol.TWO)
     );
   }
 
@@ -457,6 +458,27 @@ class PlayingHandsWithTwoPlayersTest {
     }
   }
 
+  @Test
+  void flopPlayedOneActionAtATime_FlopIsDealtOnlyOnce() {
+    final Hand flopStarted = hand
+        .onCurrentRound(this::callAndCheckFirstRound)
+        .onCurrentRound(r -> r.with(firstPlayer).check());
+    final Hand flopPlayed = flopStarted.onCurrentRound(r -> r.with(secondPlayer).check());
+    assertThat(flopStarted.flop().orElseThrow().cards()).containsExactlyElementsOf(cardsOnFlop);
+    assertThat(flopPlayed.turn().orElseThrow().cards()).containsExactlyElementsOf(cardsOnTurn);
+  }
+
+  @Test
+  void flopBetAndFolded_HandIsFinishedOnFlop_NoTurnDealt() {
+    final Hand foldedHand = hand
+        .onCurrentRound(this::callAndCheckFirstRound)
+        .onCurrentRound(r -> r.with(firstPlayer).bet(100).with(secondPlayer).fold());
+    assertThat(foldedHand.isFinished()).isTrue();
+    assertThat(foldedHand.currentPosition()).isEqualTo(RoundPosition.FLOP);
+    assertThat(foldedHand.remainingPlayers()).containsExactly(firstPlayer);
+    assertThat(foldedHand.turn()).isEmpty();
+  }
+
   @Test
   void showDown_IsPresent() {
     final Hand finishedHand = hand
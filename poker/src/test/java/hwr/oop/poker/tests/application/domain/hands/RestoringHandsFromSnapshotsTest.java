@@ -0,0 +1,162 @@
+package hwr.oop.poker.tests.application.domain.hands;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.Converter;
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandSnapshot;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.betting.BettingRound;
+import hwr.oop.poker.application.domain.betting.positions.RoundPosition;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.UnshuffledDeck;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RestoringHandsFromSnapshotsTest {
+
+  private final Converter converter = Converter.create();
+  private Player firstPlayer;
+  private Player secondPlayer;
+  private Player thirdPlayer;
+  private Hand hand;
+
+  @BeforeEach
+  void setUp() {
+    final var deck = new UnshuffledDeck(
+        converter.convert("AH,KH,QH,AS,KS,QS,3C,2C,7D,9H,3D,4S,3H,8C")
+    );
+    firstPlayer = new Player("1");
+    secondPlayer = new Player("2");
+    thirdPlayer = new Player("3");
+    final var stacks = Stacks.newBuilder()
+        .of(firstPlayer).is(100)
+        .of(secondPlayer).is(200)
+        .of(thirdPlayer).is(300)
+        .build();
+    hand = Hand.newBuilder()
+        .deck(deck)
+        .players(List.of(firstPlayer, secondPlayer, thirdPlayer))
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(1)))
+        .stacks(stacks)
+        .build();
+  }
+
+  @Test
+  void preFlop_HasNoSnapshot() {
+    assertThat(hand.snapshot()).isEmpty();
+  }
+
+  @Test
+  void onTheTurn_SnapshotHoldsTheStartOfTheStreet() {
+    final var onTurn = hand
+        .onCurrentRound(this::thirdFoldsOthersCall)
+        .onCurrentRound(this::betAndCall)
+        .onCurrentRound(round -> round.with(firstPlayer).check());
+    final var snapshot = onTurn.snapshot().orElseThrow();
+    final var soft = new SoftAssertions();
+    soft.assertThat(snapshot.position()).isEqualTo(RoundPosition.TURN);
+    soft.assertThat(snapshot.players()).containsExactly(firstPlayer, secondPlayer);
+    soft.assertThat(snapshot.contributions()).containsExactly(12L, 12L, 0L);
+    soft.assertThat(snapshot.communityCards()).hasSize(4);
+    soft.assertThat(snapshot.settledPlays()).isEqualTo(7);
+    soft.assertAll();
+  }
+
+  @Test
+  void restoredHand_EqualsTheSnapshottedHand() {
+    final var onTurn = hand
+        .onCurrentRound(this::thirdFoldsOthersCall)
+        .onCurrentRound(this::betAndCall);
+    final var restored = Hand.restore(onTurn.restoreMemento(), onTurn.snapshot().orElseThrow(),
+        () -> onTurn.plays().toList());
+    final var soft = new SoftAssertions();
+    soft.assertThat(restored).isEqualTo(onTurn);
+    soft.assertThat(restored.currentPosition()).isEqualTo(onTurn.currentPosition());
+    soft.assertThat(restored.cardsDealt()).containsExactlyElementsOf(onTurn.cardsDealt());
+    soft.assertThat(restored.stacks()).isEqualTo(onTurn.stacks());
+    soft.assertThat(restored.pots().pots()).isEqualTo(onTurn.pots().pots());
+    soft.assertThat(restored.evaluation(firstPlayer).cards())
+        .isEqualTo(onTurn.evaluation(firstPlayer).cards());
+    soft.assertAll();
+    final var played = restored.onCurrentRound(this::bothCheck).onCurrentRound(this::bothCheck);
+    final var original = onTurn.onCurrentRound(this::bothCheck).onCurrentRound(this::bothCheck);
+    assertThat(played.finalStacks()).isEqualTo(original.finalStacks());
+    assertThat(played.snapshot()).isEqualTo(original.snapshot());
+  }
+
+  @Test
+  void restoredAllInHand_IsFinishedWithTheSamePots() {
+    final var afterAllIns = hand.onCurrentRound(round -> round
+        .with(thirdPlayer).allIn()
+        .with(firstPlayer).allIn()
+        .with(secondPlayer).allIn());
+    final var restored = Hand.restore(afterAllIns.restoreMemento(),
+        afterAllIns.snapshot().orElseThrow(), () -> afterAllIns.plays().toList());
+    assertThat(restored.isFinished()).isTrue();
+    assertThat(restored.pots().pots()).isEqualTo(afterAllIns.pots().pots());
+    assertThat(restored.finalStacks()).isEqualTo(afterAllIns.finalStacks());
+  }
+
+  @Test
+  void restoring_DoesNotRebuildTheSettledPlays() {
+    final var onTurn = hand
+        .onCurrentRound(this::thirdFoldsOthersCall)
+        .onCurrentRound(this::betAndCall);
+    final var rebuilds = new AtomicInteger();
+    final var restored = Hand.restore(onTurn.restoreMemento(), onTurn.snapshot().orElseThrow(),
+        () -> {
+          rebuilds.incrementAndGet();
+          return onTurn.plays().toList();
+        });
+    final var played = restored.onCurrentRound(this::bothCheck);
+    assertThat(played.stacks()).isEqualTo(onTurn.onCurrentRound(this::bothCheck).stacks());
+    assertThat(played.snapshot().orElseThrow().settledPlays()).isEqualTo(9);
+    assertThat(rebuilds).hasValue(0);
+    assertThat(played.plays()).hasSize(9);
+    assertThat(restored.plays()).hasSize(7);
+    assertThat(rebuilds).hasValue(1);
+  }
+
+  @Test
+  void settledPlaysNotMatchingTheSnapshot_ThrowsOnceAskedFor() {
+    final var onFlop = hand.onCurrentRound(this::thirdFoldsOthersCall);
+    final var restored = Hand.restore(onFlop.restoreMemento(), onFlop.snapshot().orElseThrow(),
+        List::of);
+    assertThatThrownBy(restored::plays)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("settled plays");
+  }
+
+  @Test
+  void snapshotNotMatchingTheStacks_ThrowsException() {
+    final var onFlop = hand.onCurrentRound(this::thirdFoldsOthersCall);
+    final var snapshot = onFlop.snapshot().orElseThrow();
+    final var tampered = new HandSnapshot(snapshot.position(), List.of(2L, 2L, 301L),
+        snapshot.players(), snapshot.communityCards(), snapshot.settledPlays());
+    final var memento = onFlop.restoreMemento();
+    assertThatThrownBy(() -> Hand.restore(memento, tampered, onFlop.plays()::toList))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("does not match");
+  }
+
+  private BettingRound thirdFoldsOthersCall(BettingRound round) {
+    return round.with(thirdPlayer).fold()
+        .with(firstPlayer).call()
+        .with(secondPlayer).check();
+  }
+
+  private BettingRound betAndCall(BettingRound round) {
+    return round.with(firstPlayer).bet(10).with(secondPlayer).call();
+  }
+
+  private BettingRound bothCheck(BettingRound round) {
+    return round.with(firstPlayer).check().with(secondPlayer).check();
+  }
+}
@@ -0,0 +1,92 @@
+package hwr.oop.poker.tests.application.domain.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.simulation.HandSimulator;
+import hwr.oop.poker.application.domain.simulation.PlayerResult;
+import hwr.oop.poker.application.domain.simulation.Strategy;
+import java.util.concurrent.ForkJoinPool;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Headless hand simulation with bot strategies")
+class HandSimulatorTest {
+
+  @Test
+  void simulation_PlaysAllHands_ChipsAreConserved() {
+    final var result = HandSimulator.newBuilder()
+        .strategies(Strategy.passive(), Strategy.aggressive(), Strategy.checkOrFold())
+        .hands(2_000)
+        .seed(7)
+        .build()
+        .run();
+    final var soft = new SoftAssertions();
+    soft.assertThat(result.hands()).isEqualTo(2_000);
+    soft.assertThat(result.players()).hasSize(3);
+    soft.assertThat(result.players()).allMatch(player -> player.handsPlayed() == 2_000);
+    soft.assertThat(result.players().stream().mapToLong(PlayerResult::netChips).sum())
+        .isZero();
+    soft.assertThat(result.handsPerSecond()).isPositive();
+    soft.assertAll();
+  }
+
+  @Test
+  void checkOrFold_AgainstPassive_LosesItsBlinds() {
+    final var result = HandSimulator.newBuilder()
+        .strategies(Strategy.checkOrFold(), Strategy.passive())
+        .hands(1_000)
+        .seed(3)
+        .build()
+        .run();
+    final var folder = result.players().getFirst();
+    final var caller = result.players().get(1);
+    assertThat(folder.netChips()).isNegative();
+    assertThat(caller.netChips()).isEqualTo(-folder.netChips());
+  }
+
+  @Test
+  void passiveBots_AlwaysGoToShowDown() {
+    final var result = HandSimulator.newBuilder()
+        .strategies(Strategy.passive(), Strategy.passive(), Strategy.passive())
+        .hands(500)
+        .build()
+        .run();
+    assertThat(result.showDownRate()).isEqualTo(1.0);
+  }
+
+  @Test
+  void sameSeedAndPool_SameResult() {
+    final var pool = new ForkJoinPool(2);
+    final var builder = HandSimulator.newBuilder()
+        .strategies(Strategy.aggressive(), Strategy.passive(), Strategy.passive())
+        .hands(500)
+        .pool(pool)
+        .seed(11);
+    final var first = builder.build().run();
+    final var second = builder.build().run();
+    assertThat(first.players()).isEqualTo(second.players());
+    assertThat(first.showDowns()).isEqualTo(second.showDowns());
+    pool.shutdown();
+  }
+
+  @Test
+  void strategyThatDoesNotPlay_ThrowsException() {
+    final var simulator = HandSimulator.newBuilder()
+        .strategies((hand, round, player) -> round, Strategy.passive())
+        .hands(1)
+        .build();
+    assertThatThrownBy(simulator::run)
+        .isInstanceOf(HandSimulator.StrategyDidNotActException.class)
+        .hasMessageContaining("did not play");
+  }
+
+  @Test
+  void singleStrategy_ThrowsException() {
+    final var builder = HandSimulator.newBuilder().strategies(Strategy.passive());
+    assertThatThrownBy(builder::build)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("strategies");
+  }
+}
@@ -1,6 +1,7 @@
 package hwr.oop.poker.tests.persistence;
 
 import static hwr.oop.poker.tests.Utils.resourceAsPath;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import hwr.oop.poker.application.domain.Card;
@@ -13,6 +14,7 @@ import hwr.oop.poker.application.ports.out.CouldNotLoadHandException;
 import hwr.oop.poker.application.ports.out.LoadHandPort;
 import hwr.oop.poker.persistence.CsvFilePersistenceAdapter;
 import hwr.oop.poker.persistence.CsvRow;
+import java.util.List;
 import java.util.UUID;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -84,6 +86,102 @@ class CsvFilePersistenceTest {
     soft.assertAll();
   }
 
+  @Test
+  void exampleCsvRow_TrustedAndValidatedReplay_SameHand() {
+    final var row = exampleCsvRow();
+    final var trusted = row.toHand(CsvRow.Replay.TRUSTED);
+    final var validated = row.toHand(CsvRow.Replay.VALIDATED);
+    final var soft = new SoftAssertions();
+    soft.assertThat(trusted).isEqualTo(validated);
+    soft.assertThat(trusted.cardsDealt()).containsExactlyElementsOf(validated.cardsDealt());
+    soft.assertThat(trusted.currentPosition()).isEqualTo(validated.currentPosition());
+    soft.assertThat(trusted.stacks()).isEqualTo(validated.stacks());
+    soft.assertThat(trusted.potSize()).isEqualTo(validated.potSize());
+    soft.assertAll();
+  }
+
+  @Test
+  void csvRowWithShortAllIns_ReplaysToFinishedHand() {
+    final var row = new CsvRow(
+        UUID.randomUUID().toString(),
+        "1-100,2-200,3-300",
+        "1",
+        "AS,AD,AH,AC,KS,KD,KH,KC,QS,QD,QH,QC,JS,JD,JH,JC,TS,TD,TH,TC",
+        "3-R-300,1-CA,2-CA"
+    );
+    final var hand = row.toHand();
+    final var soft = new SoftAssertions();
+    soft.assertThat(hand.isFinished()).isTrue();
+    soft.assertThat(hand.cardsDealt()).hasSize(5);
+    soft.assertThat(hand.potSize().value()).isEqualTo(600);
+    soft.assertThat(CsvRow.fromHand(hand).playsString()).isEqualTo(row.playsString());
+    soft.assertAll();
+  }
+
+  @Test
+  void handOnTheTurn_CsvRowWithSnapshot_RestoresSameHand() {
+    final var validated = exampleCsvRow().toHand(CsvRow.Replay.VALIDATED);
+    final var row = CsvRow.fromString(CsvRow.fromHand(validated).toString());
+    final var restored = row.toHand();
+    final var soft = new SoftAssertions();
+    soft.assertThat(row.snapshotString()).startsWith("2|");
+    soft.assertThat(restored).isEqualTo(validated);
+    soft.assertThat(restored.cardsDealt()).containsExactlyElementsOf(validated.cardsDealt());
+    soft.assertThat(restored.stacks()).isEqualTo(validated.stacks());
+    soft.assertThat(restored.potSize()).isEqualTo(validated.potSize());
+    soft.assertAll();
+  }
+
+  @Test
+  void csvRowWithOlderSnapshot_ReplaysTheTrailingPlays() {
+    final var example = exampleCsvRow();
+    final var onFlop = new CsvRow(example.idString(), example.playersAndStacks(),
+        example.smallBlindString(), example.deckString(), "3-F,1-CA,2-R-4,1-CA").toHand();
+    final var snapshotString = CsvRow.fromHand(onFlop).snapshotString();
+    final var row = new CsvRow(example.idString(), example.playersAndStacks(),
+        example.smallBlindString(), example.deckString(), example.playsString(), snapshotString);
+    assertThat(snapshotString).startsWith("1|");
+    assertThat(row.toHand()).isEqualTo(example.toHand(CsvRow.Replay.VALIDATED));
+  }
+
+  @Test
+  void csvRowWithSnapshotOfOtherDeck_ThrowsException() {
+    final var validated = exampleCsvRow().toHand(CsvRow.Replay.VALIDATED);
+    final var row = CsvRow.fromHand(validated);
+    final var otherDeck = new CsvRow(row.idString(), row.playersAndStacks(),
+        row.smallBlindString(), "AS,AD,AH,AC,KS,KD,KH,JC,QS,QD,QH,QC,JS,JD,JH,KC,TS,TD,TH,TC",
+        row.playsString(), row.snapshotString());
+    assertThatThrownBy(otherDeck::toHand)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("does not match the deck");
+  }
+
+  @Test
+  void csvRowWithSnapshot_LoadsWithoutReadingTheSettledPlays() {
+    final var shortHistory = "3-F,1-CA,2-R-4,1-CA,1-B-2,2-CA,1-CH";
+    final var longHistory = "3-F,1-R-4,2-R-8,1-R-16,2-R-32,1-R-64,2-R-128,1-R-256,2-R-512,"
+        + "1-CA,1-B-2,2-CA,1-CH";
+    final var soft = new SoftAssertions();
+    for (String plays : List.of(shortHistory, longHistory)) {
+      final var example = exampleCsvRow();
+      final var validated = new CsvRow(example.idString(), example.playersAndStacks(),
+          example.smallBlindString(), example.deckString(), plays)
+          .toHand(CsvRow.Replay.VALIDATED);
+      final var row = CsvRow.fromHand(validated);
+      // only the check on the turn follows the snapshot, everything before it is unreadable
+      final var entries = row.playsString().split(",");
+      final var unreadable = "?,".repeat(entries.length - 1) + entries[entries.length - 1];
+      final var loaded = new CsvRow(row.idString(), row.playersAndStacks(),
+          row.smallBlindString(), row.deckString(), unreadable, row.snapshotString()).toHand();
+      soft.assertThat(loaded.currentPosition()).isEqualTo(validated.currentPosition());
+      soft.assertThat(loaded.stacks()).isEqualTo(validated.stacks());
+      soft.assertThat(loaded.potSize()).isEqualTo(validated.potSize());
+      soft.assertThat(loaded.playerToAct()).isEqualTo(validated.playerToAct());
+      soft.assertThatThrownBy(loaded::plays).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+    soft.assertAll();
+  }
+
   private CsvRow exampleCsvRow() {
     return new CsvRow(
         UUID.randomUUID().toString(),
@@ -115,16 +213,16 @@ class CsvFilePersistenceTest {
     soft.assertThat(hand.blindConfiguration().smallBlind().value()).isEqualTo(1);
 
     soft.assertThat(hand.holeCards(firstPlayer)).contains(
-        new Card(Color.SPADES, Symbol.ACE),
-        new Card(Color.CLUBS, Symbol.ACE)
+        Card.of(Color.SPADES, Symbol.ACE),
+        Card.of(Color.CLUBS, Symbol.ACE)
     );
     soft.assertThat(hand.holeCards(secondPlayer)).contains(
-        new Card(Color.DIAMONDS, Symbol.ACE),
-        new Card(Color.SPADES, Symbol.KING)
+        Card.of(Color.DIAMONDS, Symbol.ACE),
+        Card.of(Color.SPADES, Symbol.KING)
     );
     soft.assertThat(hand.holeCards(thirdPlayer)).contains(
-        new Card(Color.HEARTS, Symbol.ACE),
-        new Card(Color.DIAMONDS, Symbol.KING)
+        Card.of(Color.HEARTS, Symbol.ACE),
+        Card.of(Color.DIAMONDS, Symbol.KING)
     );
     soft.assertAll();
   }
@@ -0,0 +1,57 @@
+package hwr.oop.poker.tests.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.RandomDeck;
+import hwr.oop.poker.application.ports.out.CouldNotLoadHandException;
+import hwr.oop.poker.persistence.InMemoryPersistenceAdapter;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPersistenceTest {
+
+  private final Player player1 = new Player("1");
+  private final Player player2 = new Player("2");
+  private InMemoryPersistenceAdapter persistence;
+
+  @BeforeEach
+  void setUp() {
+    persistence = new InMemoryPersistenceAdapter();
+  }
+
+  @Test
+  void removeFinishedHands_KeepsRunningHands() {
+    final var running = newHand();
+    final var finished = newHand().onCurrentRound(r -> r.with(player1).fold());
+    persistence.saveHand(new HandId("running"), running);
+    persistence.saveHand(new HandId("finished"), finished);
+    assertThat(persistence.removeFinishedHands()).isEqualTo(1);
+    assertThat(persistence.loadById(new HandId("running"))).isSameAs(running);
+    assertThatThrownBy(() -> persistence.loadById(new HandId("finished")))
+        .isInstanceOf(CouldNotLoadHandException.class);
+  }
+
+  @Test
+  void removeById_HandIsGone() {
+    persistence.saveHand(new HandId("1337"), newHand());
+    persistence.removeById(new HandId("1337"));
+    assertThat(persistence.size()).isZero();
+  }
+
+  private Hand newHand() {
+    return Hand.newBuilder()
+        .deck(new RandomDeck())
+        .players(List.of(player1, player2))
+        .stacks(Stacks.newBuilder().of(player1).is(1000).of(player2).is(1000).build())
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(10)))
+        .build();
+  }
+}
@@ -0,0 +1,113 @@
+package hwr.oop.poker.tests.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.ports.out.CouldNotLoadHandException;
+import hwr.oop.poker.persistence.Configuration;
+import hwr.oop.poker.persistence.CsvFilePersistenceAdapter;
+import hwr.oop.poker.persistence.CsvRow;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IndexedCsvFilePersistenceTest {
+
+  private static final String DECK =
+      "AS,AD,AH,AC,KS,KD,KH,KC,QS,QD,QH,QC,JS,JD,JH,JC,TS,TD,TH,TC";
+
+  @TempDir
+  private Path directory;
+  private Configuration configuration;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    configuration = CsvFilePersistenceAdapter.newConfigBuilder()
+        .csvFile(directory.resolve("hands.csv"))
+        .build();
+    // ids that are prefixes of each other, the last row is not terminated
+    Files.writeString(configuration.csvFilePath(), String.join("\n",
+        "handId;playersAndStacks;smallBlindString;deckString;playsString",
+        row("13", 1300),
+        row("1", 100),
+        row("133", 13300)));
+  }
+
+  @Test
+  void missingIndex_IsRebuiltOnStartup_LoadsMatchExactIds() {
+    final var adapter = new CsvFilePersistenceAdapter(configuration);
+    final var soft = new SoftAssertions();
+    soft.assertThat(Files.exists(configuration.indexFilePath())).isTrue();
+    soft.assertThat(stacksOf(adapter, "1")).isEqualTo("1-100,2-100");
+    soft.assertThat(stacksOf(adapter, "13")).isEqualTo("1-1300,2-1300");
+    soft.assertThat(stacksOf(adapter, "133")).isEqualTo("1-13300,2-13300");
+    soft.assertAll();
+  }
+
+  @Test
+  void existingIndex_IsUsedWithoutScanningTheCsvFile() throws IOException {
+    new CsvFilePersistenceAdapter(configuration);
+    final List<String> index = Files.readAllLines(configuration.indexFilePath());
+    assertThat(index).hasSize(4).anyMatch(line -> line.startsWith("1;"));
+    // same length but the ids are unreadable, only the index can still find the rows
+    final var csv = Files.readString(configuration.csvFilePath());
+    Files.writeString(configuration.csvFilePath(), csv.replace("\n1;", "\nX;"));
+    final var adapter = new CsvFilePersistenceAdapter(configuration);
+    assertThat(stacksOf(adapter, "1")).isEqualTo("1-100,2-100");
+  }
+
+  @Test
+  void staleIndex_IsRebuiltOnStartup() throws IOException {
+    new CsvFilePersistenceAdapter(configuration);
+    Files.writeString(configuration.csvFilePath(), "\n" + row("42", 4200),
+        StandardOpenOption.APPEND);
+    final var adapter = new CsvFilePersistenceAdapter(configuration);
+    assertThat(stacksOf(adapter, "42")).isEqualTo("1-4200,2-4200");
+  }
+
+  @Test
+  void indexOfOtherCsvFileOfSameSize_IsRebuiltOnStartup() throws IOException {
+    new CsvFilePersistenceAdapter(configuration);
+    // same size, but the rows are of other ids and the last one starts elsewhere
+    Files.writeString(configuration.csvFilePath(), String.join("\n",
+        "handId;playersAndStacks;smallBlindString;deckString;playsString",
+        row("31", 1300),
+        row("331", 1330),
+        row("7", 1000)));
+    final var adapter = new CsvFilePersistenceAdapter(configuration);
+    final var soft = new SoftAssertions();
+    soft.assertThat(stacksOf(adapter, "331")).isEqualTo("1-1330,2-1330");
+    soft.assertThat(stacksOf(adapter, "7")).isEqualTo("1-1000,2-1000");
+    soft.assertThatThrownBy(() -> adapter.loadById(new HandId("133")))
+        .isInstanceOf(CouldNotLoadHandException.class);
+    soft.assertAll();
+  }
+
+  @Test
+  void savedHand_IsIndexed_UnknownIdThrowsException() {
+    final var adapter = new CsvFilePersistenceAdapter(configuration);
+    final var hand = CsvRow.fromString(row("7", 700)).toHand();
+    adapter.saveHand(new HandId("7"), hand);
+    final var reopened = new CsvFilePersistenceAdapter(configuration);
+    assertThat(stacksOf(reopened, "7")).isEqualTo("1-700,2-700");
+    assertThatThrownBy(() -> reopened.loadById(new HandId("77")))
+        .isInstanceOf(CouldNotLoadHandException.class)
+        .hasMessageContaining("not available");
+  }
+
+  private static String stacksOf(CsvFilePersistenceAdapter adapter, String id) {
+    final var hand = adapter.loadById(new HandId(id));
+    return CsvRow.fromHand(hand).playersAndStacks();
+  }
+
+  private static String row(String id, int stack) {
+    return new CsvRow(id, "1-" + stack + ",2-" + stack, "1", DECK, "1-CA").toString();
+  }
+}
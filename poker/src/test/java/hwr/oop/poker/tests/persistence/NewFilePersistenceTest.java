@@ -28,6 +28,7 @@ class NewFilePersistenceTest {
   private static final String FILE_NAME = "src/test/resources/newFile.csv";
 
   private Path path;
+  private Path indexPath;
   private LoadHandPort loadHandPort;
   private SaveHandPort saveHandPort;
 
@@ -39,6 +40,7 @@ class NewFilePersistenceTest {
     final var configuration = CsvFilePersistenceAdapter.newConfigBuilder()
         .csvFile(path)
         .build();
+    this.indexPath = configuration.indexFilePath();
     final var adapter = new CsvFilePersistenceAdapter(configuration);
     this.loadHandPort = adapter;
     this.saveHandPort = adapter;
@@ -54,6 +56,7 @@ class NewFilePersistenceTest {
   void tearDown() {
     try {
       Files.delete(path);
+      Files.deleteIfExists(indexPath);
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -73,7 +76,51 @@ class NewFilePersistenceTest {
     soft.assertAll();
   }
 
+  @Test
+  void saveTwoHands_BothCanBeLoaded() {
+    saveHandPort.saveHand(new HandId("1"), exampleHand());
+    saveHandPort.saveHand(new HandId("2"), handAfterFirstPlay());
+    final var soft = new SoftAssertions();
+    soft.assertThat(loadHandPort.loadById(new HandId("1")).flopRoundPlayed()).isTrue();
+    soft.assertThat(loadHandPort.loadById(new HandId("2")).flopRoundPlayed()).isFalse();
+    soft.assertAll();
+  }
+
+  @Test
+  void saveSameHandTwice_LatestVersionIsLoaded_EarlierVersionIsKept() throws IOException {
+    final var id = new HandId("1");
+    saveHandPort.saveHand(id, handAfterFirstPlay());
+    saveHandPort.saveHand(id, exampleHand());
+    final var lines = Files.readAllLines(path);
+    final var soft = new SoftAssertions();
+    soft.assertThat(lines).hasSize(3);
+    soft.assertThat(lines.get(0)).startsWith("handId;");
+    soft.assertThat(lines.subList(1, 3)).allMatch(line -> line.startsWith("1;"));
+    soft.assertThat(loadHandPort.loadById(id).plays().toList())
+        .containsExactlyElementsOf(exampleHand().plays().toList());
+    soft.assertAll();
+  }
+
   private Hand exampleHand() {
+    final var first = new Player("1");
+    final var second = new Player("2");
+    final var third = new Player("3");
+    return newHand()
+        .onCurrentRound(b ->
+            b.with(third).fold()
+                .with(first).call()
+                .with(second).raiseTo(4)
+                .with(first).call()
+        )
+        .onCurrentRound(b -> b.with(first).bet(2).with(second).call())
+        .onCurrentRound(b -> b.with(first).check());
+  }
+
+  private Hand handAfterFirstPlay() {
+    return newHand().onCurrentRound(b -> b.with(new Player("3")).fold());
+  }
+
+  private Hand newHand() {
     final var first = new Player("1");
     final var second = new Player("2");
     final var third = new Player("3");
@@ -84,41 +131,32 @@ class NewFilePersistenceTest {
         .of(third).is(10_000)
         .build();
     final var deck = new UnshuffledDeck(
-        new Card(Color.SPADES, Symbol.ACE),
-        new Card(Color.DIAMONDS, Symbol.ACE),
-        new Card(Color.HEARTS, Symbol.ACE),
-        new Card(Color.CLUBS, Symbol.ACE),
-        new Card(Color.SPADES, Symbol.KING),
-        new Card(Color.DIAMONDS, Symbol.KING),
-        new Card(Color.HEARTS, Symbol.KING),
-        new Card(Color.CLUBS, Symbol.KING),
-        new Card(Color.SPADES, Symbol.QUEEN),
-        new Card(Color.DIAMONDS, Symbol.QUEEN),
-        new Card(Color.HEARTS, Symbol.QUEEN),
-        new Card(Color.CLUBS, Symbol.QUEEN),
-        new Card(Color.SPADES, Symbol.JACK),
-        new Card(Color.DIAMONDS, Symbol.JACK),
-        new Card(Color.HEARTS, Symbol.JACK),
-        new Card(Color.CLUBS, Symbol.JACK),
-        new Card(Color.SPADES, Symbol.TEN),
-        new Card(Color.DIAMONDS, Symbol.TEN),
-        new Card(Color.HEARTS, Symbol.TEN),
-        new Card(Color.CLUBS, Symbol.TEN)
+        Card.of(Color.SPADES, Symbol.ACE),
+        Card.of(Color.DIAMONDS, Symbol.ACE),
+        Card.of(Color.HEARTS, Symbol.ACE),
+        Card.of(Color.CLUBS, Symbol.ACE),
+        Card.of(Color.SPADES, Symbol.KING),
+        Card.of(Color.DIAMONDS, Symbol.KING),
+        Card.of(Color.HEARTS, Symbol.KING),
+        Card.of(Color.CLUBS, Symbol.KING),
+        Card.of(Color.SPADES, Symbol.QUEEN),
+        Card.of(Color.DIAMONDS, Symbol.QUEEN),
+        Card.of(Color.HEARTS, Symbol.QUEEN),
+        Card.of(Color.CLUBS, Symbol.QUEEN),
+        Card.of(Color.SPADES, Symbol.JACK),
+        Card.of(Color.DIAMONDS, Symbol.JACK),
+        Card.of(Color.HEARTS, Symbol.JACK),
+        Card.of(Color.CLUBS, Symbol.JACK),
+        Card.of(Color.SPADES, Symbol.TEN),
+        Card.of(Color.DIAMONDS, Symbol.TEN),
+        Card.of(Color.HEARTS, Symbol.TEN),
+        Card.of(Color.CLUBS, Symbol.TEN)
     );
-    final var hand = Hand.newBuilder()
+    return Hand.newBuilder()
         .players(players)
         .stacks(stacks)
         .blindConfiguration(BlindConfiguration.create(SmallBlind.of(1)))
         .deck(deck)
         .build();
-    return hand
-        .onCurrentRound(b ->
-            b.with(third).fold()
-                .with(first).call()
-                .with(second).raiseTo(4)
-                .with(first).call()
-        )
-        .onCurrentRound(b -> b.with(first).bet(2).with(second).call())
-        .onCurrentRound(b -> b.with(first).check());
   }
 }
@@ -0,0 +1,188 @@
+package hwr.oop.poker.tests.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.application.domain.Hand;
+import hwr.oop.poker.application.domain.HandId;
+import hwr.oop.poker.application.domain.Player;
+import hwr.oop.poker.application.domain.Stacks;
+import hwr.oop.poker.application.domain.blinds.BlindConfiguration;
+import hwr.oop.poker.application.domain.blinds.SmallBlind;
+import hwr.oop.poker.application.domain.decks.RandomDeck;
+import hwr.oop.poker.application.ports.out.BatchSaveHandPort;
+import hwr.oop.poker.persistence.CsvFilePersistenceAdapter;
+import hwr.oop.poker.persistence.InMemoryPersistenceAdapter;
+import hwr.oop.poker.persistence.WriteBehindPersistenceAdapter;
+import hwr.oop.poker.persistence.WriteBehindPersistenceAdapter.CouldNotSaveHandsException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteBehindPersistenceTest {
+
+  private static final Duration LONG_INTERVAL = Duration.ofHours(1);
+
+  private InMemoryPersistenceAdapter written;
+  private List<Integer> batchSizes;
+  private BatchSaveHandPort recordingPort;
+
+  @BeforeEach
+  void setUp() {
+    written = new InMemoryPersistenceAdapter();
+    batchSizes = new CopyOnWriteArrayList<>();
+    recordingPort = new BatchSaveHandPort() {
+      @Override
+      public void saveHands(Map<HandId, Hand> hands) {
+        batchSizes.add(hands.size());
+        hands.forEach(written::saveHand);
+      }
+
+      @Override
+      public void saveHand(HandId id, Hand hand) {
+        saveHands(Map.of(id, hand));
+      }
+    };
+  }
+
+  @Test
+  void versionsOfOneHand_AreCoalesced_QueuedHandsAreLoadable() {
+    final var adapter = writeBehind(LONG_INTERVAL, 16, false);
+    final var id = new HandId("1");
+    Hand latest = null;
+    for (int version = 0; version < 10; version++) {
+      latest = newHand();
+      adapter.saveHand(id, latest);
+    }
+    adapter.saveHand(new HandId("2"), newHand());
+    final var soft = new SoftAssertions();
+    soft.assertThat(adapter.loadById(id)).isSameAs(latest);
+    soft.assertThat(written.size()).isZero();
+    adapter.close();
+    soft.assertThat(batchSizes).containsExactly(2);
+    soft.assertThat(written.loadById(id)).isSameAs(latest);
+    soft.assertAll();
+  }
+
+  @Test
+  void fullBatch_IsWrittenWithoutWaitingForTheFlushInterval() {
+    // synced saves would wait for an hour if they had to fill the interval
+    try (var adapter = writeBehind(LONG_INTERVAL, 1, true)) {
+      adapter.saveHand(new HandId("1"), newHand());
+      adapter.saveHand(new HandId("2"), newHand());
+      assertThat(written.size()).isEqualTo(2);
+    }
+    assertThat(batchSizes).containsExactly(1, 1);
+  }
+
+  @Test
+  void concurrentSyncedSaves_ShareFewCommits() throws Exception {
+    final int saves = 200;
+    try (var adapter = writeBehind(Duration.ofMillis(20), 1024, true);
+        var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < saves; i++) {
+        final var id = new HandId("hand-" + i);
+        futures.add(executor.submit(() -> adapter.saveHand(id, newHand())));
+      }
+      for (var future : futures) {
+        future.get();
+      }
+      // every synced save returned, so its batch was written
+      assertThat(written.size()).isEqualTo(saves);
+    }
+    assertThat(batchSizes).hasSizeLessThan(saves / 10);
+    assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(saves);
+  }
+
+  @Test
+  void failedBatch_FailsSyncedSave_AndLaterSaves() {
+    final BatchSaveHandPort failingPort = new BatchSaveHandPort() {
+      @Override
+      public void saveHands(Map<HandId, Hand> hands) {
+        throw new IllegalStateException("disk full");
+      }
+
+      @Override
+      public void saveHand(HandId id, Hand hand) {
+        saveHands(Map.of(id, hand));
+      }
+    };
+    final var adapter = WriteBehindPersistenceAdapter.newBuilder()
+        .loadHandPort(written)
+        .batchSaveHandPort(failingPort)
+        .build();
+    assertThatThrownBy(() -> adapter.saveHand(new HandId("1"), newHand()))
+        .isInstanceOf(CouldNotSaveHandsException.class)
+        .hasRootCauseMessage("disk full");
+    assertThatThrownBy(() -> adapter.saveHand(new HandId("2"), newHand()))
+        .isInstanceOf(CouldNotSaveHandsException.class)
+        .hasMessageContaining("earlier batch failed");
+    assertThatThrownBy(adapter::close).isInstanceOf(CouldNotSaveHandsException.class);
+  }
+
+  @Test
+  void saveAfterClose_ThrowsException() {
+    final var adapter = writeBehind(LONG_INTERVAL, 16, true);
+    adapter.close();
+    assertThatThrownBy(() -> adapter.saveHand(new HandId("1"), newHand()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("closed");
+  }
+
+  @Test
+  void onCsvFile_QueuedHandsAreInTheFileAfterClose(@TempDir Path directory) {
+    final var configuration = CsvFilePersistenceAdapter.newConfigBuilder()
+        .csvFile(directory.resolve("hands.csv"))
+        .build();
+    final var csv = new CsvFilePersistenceAdapter(configuration);
+    final var hand = newHand().onCurrentRound(b -> b.with(new Player("1")).call());
+    try (var adapter = WriteBehindPersistenceAdapter.newBuilder()
+        .loadHandPort(csv)
+        .batchSaveHandPort(csv)
+        .syncOnCommit(false)
+        .build()) {
+      for (int i = 0; i < 50; i++) {
+        adapter.saveHand(new HandId("hand-" + i), hand);
+      }
+    }
+    final var reopened = new CsvFilePersistenceAdapter(configuration);
+    assertThat(reopened.loadById(new HandId("hand-49")).plays().toList())
+        .containsExactlyElementsOf(hand.plays().toList());
+  }
+
+  private WriteBehindPersistenceAdapter writeBehind(Duration flushInterval, int maxBatchSize,
+      boolean syncOnCommit) {
+    return WriteBehindPersistenceAdapter.newBuilder()
+        .loadHandPort(written)
+        .batchSaveHandPort(recordingPort)
+        .flushInterval(flushInterval)
+        .maxBatchSize(maxBatchSize)
+        .syncOnCommit(syncOnCommit)
+        .build();
+  }
+
+  private static Hand newHand() {
+    final var first = new Player("1");
+    final var second = new Player("2");
+    final var stacks = Stacks.newBuilder()
+        .of(first).is(1000)
+        .of(second).is(1000)
+        .build();
+    return Hand.newBuilder()
+        .deck(new RandomDeck())
+        .players(List.of(first, second))
+        .stacks(stacks)
+        .blindConfiguration(BlindConfiguration.create(SmallBlind.of(10)))
+        .build();
+  }
+}
@@ -0,0 +1,45 @@
+package hwr.oop.poker.tests.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import hwr.oop.poker.server.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void empty_PercentilesAreZero() {
+    final var histogram = new LatencyHistogram();
+    assertThat(histogram.count()).isZero();
+    assertThat(histogram.percentile(0.99)).isZero();
+  }
+
+  @Test
+  void smallValues_AreExact() {
+    final var histogram = new LatencyHistogram();
+    for (long nanos = 1; nanos <= 4; nanos++) {
+      histogram.record(nanos);
+    }
+    assertThat(histogram.count()).isEqualTo(4);
+    assertThat(histogram.percentile(0.5)).isEqualTo(2);
+    assertThat(histogram.percentile(1.0)).isEqualTo(4);
+  }
+
+  @Test
+  void percentiles_AreAtMostAnEighthTooHigh() {
+    final var histogram = new LatencyHistogram();
+    for (long micros = 1; micros <= 1_000; micros++) {
+      histogram.record(micros * 1_000);
+    }
+    assertThat(histogram.percentile(0.5)).isBetween(500_000L, 562_500L);
+    assertThat(histogram.percentile(0.99)).isBetween(990_000L, 1_113_750L);
+  }
+
+  @Test
+  void invalidPercentile_ThrowsException() {
+    final var histogram = new LatencyHistogram();
+    assertThatThrownBy(() -> histogram.percentile(0.0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
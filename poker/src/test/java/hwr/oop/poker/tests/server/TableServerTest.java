@@ -0,0 +1,203 @@
+package hwr.oop.poker.tests.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import hwr.oop.poker.application.CreateGameService;
+import hwr.oop.poker.application.GameActionService;
+import hwr.oop.poker.persistence.InMemoryPersistenceAdapter;
+import hwr.oop.poker.server.TableServer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TableServerTest {
+
+  private InMemoryPersistenceAdapter persistence;
+  private TableServer server;
+  private HttpClient client;
+
+  @BeforeEach
+  void setUp() {
+    persistence = new InMemoryPersistenceAdapter();
+    server = TableServer.newBuilder()
+        .createGameUseCase(new CreateGameService(persistence))
+        .gameActionUseCase(new GameActionService(persistence, persistence))
+        .loadHandPort(persistence)
+        .build()
+        .start();
+    client = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  @Test
+  void createHand_ReturnsItsState() throws Exception {
+    final var response = post("/hands/1337", "10;1-1000,2-1000");
+    final var soft = new SoftAssertions();
+    soft.assertThat(response.statusCode()).isEqualTo(201);
+    soft.assertThat(response.body()).contains("hand=1337", "position=0", "turn=1", "pot=30");
+    soft.assertThat(persistence.size()).isEqualTo(1);
+    soft.assertAll();
+  }
+
+  @Test
+  void callAndCheck_OpensTheFlop() throws Exception {
+    post("/hands/1337", "10;1-1000,2-1000");
+    post("/hands/1337/plays", "1;CALL");
+    final var response = post("/hands/1337/plays", "2;CHECK");
+    assertThat(response.statusCode()).isEqualTo(200);
+    assertThat(get("/hands/1337").body()).contains("position=1", "pot=40", "stacks=1-980,2-980");
+  }
+
+  @Test
+  void playOfWrongPlayer_IsRejected() throws Exception {
+    post("/hands/1337", "10;1-1000,2-1000");
+    final var response = post("/hands/1337/plays", "2;CHECK");
+    assertThat(response.statusCode()).isEqualTo(409);
+  }
+
+  @Test
+  void unknownHand_NotFound_MalformedPlay_BadRequest() throws Exception {
+    post("/hands/1337", "10;1-1000,2-1000");
+    assertThat(get("/hands/42").statusCode()).isEqualTo(404);
+    assertThat(post("/hands/1337/plays", "1").statusCode()).isEqualTo(400);
+    assertThat(post("/hands/1337/plays", "1;BET;lots").statusCode()).isEqualTo(400);
+  }
+
+  @Test
+  void createOfExistingHand_IsRejected_HandIsKept() throws Exception {
+    post("/hands/1337", "10;1-1000,2-1000");
+    post("/hands/1337/plays", "1;CALL");
+    final var response = post("/hands/1337", "10;3-1000,4-1000");
+    assertThat(response.statusCode()).isEqualTo(409);
+    assertThat(get("/hands/1337").body()).contains("turn=2", "stacks=1-980,2-980");
+  }
+
+  @Test
+  void playOnFinishedHand_IsRejected() throws Exception {
+    post("/hands/1337", "10;1-1000,2-1000");
+    assertThat(post("/hands/1337/plays", "1;FOLD").body()).contains("finished=true");
+    assertThat(post("/hands/1337/plays", "2;CHECK").statusCode()).isEqualTo(409);
+  }
+
+  @Test
+  void stackBelowTheBlind_IsRejected() throws Exception {
+    final var response = post("/hands/1337", "10;1-5,2-1000");
+    assertThat(response.statusCode()).isEqualTo(409);
+    assertThat(response.body()).startsWith("InvalidPlayForStackException");
+  }
+
+  @Test
+  void invalidHandOrPlay_BadRequest() throws Exception {
+    final var tooManyPlayers = new StringJoiner(",");
+    for (int player = 0; player <= Long.SIZE; player++) {
+      tooManyPlayers.add(player + "-1000");
+    }
+    final var soft = new SoftAssertions();
+    soft.assertThat(post("/hands/1", "10;1-1000").statusCode()).isEqualTo(400);
+    soft.assertThat(post("/hands/2", "10;" + tooManyPlayers).statusCode()).isEqualTo(400);
+    soft.assertThat(post("/hands/3", "10;1--5,2-1000").statusCode()).isEqualTo(400);
+    post("/hands/1337", "10;1-1000,2-1000");
+    soft.assertThat(post("/hands/1337/plays", "1;SMALL_BLIND").statusCode()).isEqualTo(400);
+    soft.assertThat(post("/hands/1337/plays", "1;RAISE;-40").statusCode()).isEqualTo(400);
+    soft.assertThat(persistence.size()).isEqualTo(1);
+    soft.assertAll();
+  }
+
+  @Test
+  void unexpectedFailure_InternalServerError() throws Exception {
+    try (final var failing = TableServer.newBuilder()
+        .createGameUseCase(new CreateGameService(persistence))
+        .gameActionUseCase(command -> {
+          throw new IllegalStateException("bug");
+        })
+        .loadHandPort(persistence)
+        .build()
+        .start()) {
+      post("/hands/1337", "10;1-1000,2-1000");
+      final var request = HttpRequest.newBuilder(
+              URI.create("http://localhost:" + failing.port() + "/hands/1337/plays"))
+          .POST(BodyPublishers.ofString("1;CALL"))
+          .build();
+      assertThat(client.send(request, BodyHandlers.ofString()).statusCode()).isEqualTo(500);
+    }
+  }
+
+  @Test
+  void concurrentPlaysOnOneHand_AreSerialised() throws Exception {
+    post("/hands/1337", "10;1-1000,2-1000");
+    final List<Callable<Integer>> calls = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      calls.add(() -> post("/hands/1337/plays", "1;CALL").statusCode());
+    }
+    final var statusCodes = invokeAll(calls);
+    assertThat(statusCodes).containsOnlyOnce(200).containsOnly(200, 409);
+    assertThat(get("/hands/1337").body()).contains("turn=2", "pot=40");
+  }
+
+  @Test
+  void manyTables_PlayedConcurrently_LatenciesAreReported() throws Exception {
+    final int tables = 200;
+    final List<Callable<Integer>> calls = new ArrayList<>();
+    for (int table = 0; table < tables; table++) {
+      final String path = "/hands/table-" + table;
+      calls.add(() -> {
+        post(path, "10;1-1000,2-1000,3-1000");
+        post(path + "/plays", "3;CALL");
+        post(path + "/plays", "1;CALL");
+        return post(path + "/plays", "2;CHECK").statusCode();
+      });
+    }
+    assertThat(invokeAll(calls)).hasSize(tables).containsOnly(200);
+    final var metrics = get("/metrics").body();
+    assertThat(metrics).contains("actions=" + 3 * tables, "p99Micros=");
+    assertThat(server.actionLatencies().percentile(0.99)).isPositive();
+  }
+
+  private List<Integer> invokeAll(List<Callable<Integer>> calls)
+      throws InterruptedException, ExecutionException {
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final List<Integer> results = new ArrayList<>();
+      for (Future<Integer> future : executor.invokeAll(calls)) {
+        results.add(future.get());
+      }
+      return results;
+    }
+  }
+
+  private HttpResponse<String> post(String path, String body)
+      throws IOException, InterruptedException {
+    final var request = HttpRequest.newBuilder(uri(path))
+        .POST(BodyPublishers.ofString(body))
+        .build();
+    return client.send(request, BodyHandlers.ofString());
+  }
+
+  private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+    return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), BodyHandlers.ofString());
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + server.port() + path);
+  }
+}